@@ -0,0 +1,69 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+/**
+ * Benchmarks for {@code FileAssert.hasSameContentAs}. The failing files differ only in their last line.
+ *
+ * @since 1.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileAssertBenchmark {
+  @Param({"10", "10000", "1000000"})
+  public int lines;
+
+  private File actual;
+  private File equal;
+  private File different;
+
+  @Setup
+  public void setUp() throws IOException {
+    actual = Fixtures.textFile(lines, "last line");
+    equal = Fixtures.textFile(lines, "last line");
+    different = Fixtures.textFile(lines, "another last line");
+  }
+
+  @TearDown
+  public void tearDown() {
+    Fixtures.delete(actual, equal, different);
+  }
+
+  @Benchmark
+  public Object hasSameContentAs_success() {
+    return assertThat(actual).hasSameContentAs(equal);
+  }
+
+  @Benchmark
+  public Object hasSameContentAs_failure() {
+    try {
+      return assertThat(actual).hasSameContentAs(different);
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+}
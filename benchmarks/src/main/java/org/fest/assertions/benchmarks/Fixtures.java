@@ -0,0 +1,124 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test data shared by the benchmarks.
+ *
+ * @since 1.5
+ */
+public final class Fixtures {
+  private Fixtures() {
+  }
+
+  static String text(int length, char c) {
+    StringBuilder b = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      b.append(c);
+    }
+    return b.toString();
+  }
+
+  static List<Integer> integers(int size) {
+    List<Integer> integers = new ArrayList<Integer>(size);
+    for (int i = 0; i < size; i++) {
+      integers.add(i);
+    }
+    return integers;
+  }
+
+  static File textFile(int lines, String lastLine) throws IOException {
+    File file = File.createTempFile("fest-benchmark", ".txt");
+    file.deleteOnExit();
+    BufferedWriter writer = new BufferedWriter(new FileWriter(file));
+    try {
+      for (int i = 0; i < lines - 1; i++) {
+        writer.write("line number ");
+        writer.write(String.valueOf(i));
+        writer.newLine();
+      }
+      writer.write(lastLine);
+      writer.newLine();
+    } finally {
+      writer.close();
+    }
+    return file;
+  }
+
+  static void delete(File... files) {
+    for (File file : files) {
+      if (file != null) {
+        file.delete();
+      }
+    }
+  }
+
+  static List<Employee> employees(int size) {
+    List<Employee> employees = new ArrayList<Employee>(size);
+    for (int i = 0; i < size; i++) {
+      employees.add(new Employee(i, new Address(new Street(i % 100))));
+    }
+    return employees;
+  }
+
+  public static class Employee {
+    private final long id;
+    private final Address address;
+
+    Employee(long id, Address address) {
+      this.id = id;
+      this.address = address;
+    }
+
+    public long getId() {
+      return id;
+    }
+
+    public Address getAddress() {
+      return address;
+    }
+  }
+
+  public static class Address {
+    private final Street street;
+
+    Address(Street street) {
+      this.street = street;
+    }
+
+    public Street getStreet() {
+      return street;
+    }
+  }
+
+  public static class Street {
+    private final int number;
+
+    Street(int number) {
+      this.number = number;
+    }
+
+    public int getNumber() {
+      return number;
+    }
+  }
+}
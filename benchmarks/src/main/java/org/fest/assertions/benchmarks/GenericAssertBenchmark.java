@@ -0,0 +1,67 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+/**
+ * Benchmarks for {@code GenericAssert.isEqualTo}, for both the passing and the failing path.
+ *
+ * @since 1.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GenericAssertBenchmark {
+  @Param({"10", "1000", "100000"})
+  public int size;
+
+  private String actual;
+  private String equal;
+  private String different;
+
+  @Setup
+  public void setUp() {
+    actual = Fixtures.text(size, 'a');
+    equal = Fixtures.text(size, 'a');
+    different = Fixtures.text(size, 'b');
+  }
+
+  @Benchmark
+  public Object isEqualTo_success() {
+    return assertThat(actual).isEqualTo(equal);
+  }
+
+  @Benchmark
+  public Object isEqualTo_failure() {
+    try {
+      return assertThat(actual).isEqualTo(different);
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object isEqualTo_withDescription_success() {
+    return assertThat(actual).as("a description").isEqualTo(equal);
+  }
+}
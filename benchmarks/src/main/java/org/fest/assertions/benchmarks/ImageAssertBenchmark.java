@@ -0,0 +1,81 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static org.fest.assertions.Assertions.assertThat;
+
+/**
+ * Benchmarks for {@code ImageAssert.isEqualTo}. The failing images differ only in their last pixel, so the whole image
+ * is scanned before the failure is reported.
+ *
+ * @since 1.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImageAssertBenchmark {
+  @Param({"64", "512", "2048"})
+  public int size;
+
+  private BufferedImage actual;
+  private BufferedImage equal;
+  private BufferedImage different;
+
+  @Setup
+  public void setUp() {
+    actual = gradient(size);
+    equal = gradient(size);
+    different = gradient(size);
+    different.setRGB(size - 1, size - 1, ~different.getRGB(size - 1, size - 1));
+  }
+
+  private static BufferedImage gradient(int size) {
+    BufferedImage image = new BufferedImage(size, size, TYPE_INT_RGB);
+    for (int y = 0; y < size; y++) {
+      for (int x = 0; x < size; x++) {
+        image.setRGB(x, y, (x * 31 + y * 17) & 0xFFFFFF);
+      }
+    }
+    return image;
+  }
+
+  @Benchmark
+  public Object isEqualTo_success() {
+    return assertThat(actual).isEqualTo(equal);
+  }
+
+  @Benchmark
+  public Object isEqualTo_failure() {
+    try {
+      return assertThat(actual).isEqualTo(different);
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object isNotEqualTo_success() {
+    return assertThat(actual).isNotEqualTo(different);
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+/**
+ * Benchmarks for {@code ItemGroupAssert.assertContains} and {@code ItemGroupAssert.assertContainsOnly}, reached through
+ * {@code ListAssert.contains} and {@code ListAssert.containsOnly}.
+ *
+ * @since 1.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemGroupAssertBenchmark {
+  @Param({"10", "1000", "100000"})
+  public int size;
+
+  private List<Integer> actual;
+  private Object[] sample;
+  private Object[] missing;
+  private Object[] all;
+  private Object[] allButLast;
+
+  @Setup
+  public void setUp() {
+    actual = Fixtures.integers(size);
+    sample = new Object[]{0, size / 2, size - 1};
+    missing = new Object[]{0, size};
+    all = actual.toArray();
+    allButLast = actual.subList(0, size - 1).toArray();
+  }
+
+  @Benchmark
+  public Object contains_success() {
+    return assertThat(actual).contains(sample);
+  }
+
+  @Benchmark
+  public Object contains_failure() {
+    try {
+      return assertThat(actual).contains(missing);
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object containsOnly_success() {
+    return assertThat(actual).containsOnly(all);
+  }
+
+  @Benchmark
+  public Object containsOnly_failure() {
+    try {
+      return assertThat(actual).containsOnly(allButLast);
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+/**
+ * Benchmarks for {@code ListAssert.onProperty}, using both simple and nested properties.
+ *
+ * @since 1.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListAssertOnPropertyBenchmark {
+  @Param({"10", "1000", "100000"})
+  public int size;
+
+  private List<Fixtures.Employee> employees;
+
+  @Setup
+  public void setUp() {
+    employees = Fixtures.employees(size);
+  }
+
+  @Benchmark
+  public Object onProperty_simple() {
+    return assertThat(employees).onProperty("id");
+  }
+
+  @Benchmark
+  public Object onProperty_nested() {
+    return assertThat(employees).onProperty("address.street.number");
+  }
+
+  @Benchmark
+  public Object onProperty_nested_containsOnly_failure() {
+    try {
+      return assertThat(employees).onProperty("address.street.number").containsOnly(-1);
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+}
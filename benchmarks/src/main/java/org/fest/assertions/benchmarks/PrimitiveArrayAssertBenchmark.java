@@ -0,0 +1,192 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+/**
+ * Benchmarks for {@code contains}, {@code containsOnly} and {@code excludes} in the assertions for arrays of primitives
+ * ({@code IntArrayAssert}, {@code LongArrayAssert} and {@code DoubleArrayAssert}.)
+ *
+ * @since 1.5
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveArrayAssertBenchmark {
+  @Param({"10", "1000", "100000"})
+  public int size;
+
+  private int[] ints;
+  private int[] intSample;
+  private int[] intMissing;
+  private long[] longs;
+  private long[] longSample;
+  private long[] longMissing;
+  private double[] doubles;
+  private double[] doubleSample;
+  private double[] doubleMissing;
+
+  @Setup
+  public void setUp() {
+    ints = new int[size];
+    longs = new long[size];
+    doubles = new double[size];
+    for (int i = 0; i < size; i++) {
+      ints[i] = i;
+      longs[i] = i;
+      doubles[i] = i;
+    }
+    intSample = new int[]{0, size / 2, size - 1};
+    intMissing = new int[]{size, size + 1};
+    longSample = new long[]{0, size / 2, size - 1};
+    longMissing = new long[]{size, size + 1};
+    doubleSample = new double[]{0, size / 2, size - 1};
+    doubleMissing = new double[]{size, size + 1};
+  }
+
+  @Benchmark
+  public Object intContains_success() {
+    return assertThat(ints).contains(intSample);
+  }
+
+  @Benchmark
+  public Object intContains_failure() {
+    try {
+      return assertThat(ints).contains(intMissing);
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object intContainsOnly_success() {
+    return assertThat(ints).containsOnly(ints);
+  }
+
+  @Benchmark
+  public Object intContainsOnly_failure() {
+    try {
+      return assertThat(ints).containsOnly(intSample);
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object intExcludes_success() {
+    return assertThat(ints).excludes(intMissing);
+  }
+
+  @Benchmark
+  public Object intExcludes_failure() {
+    try {
+      return assertThat(ints).excludes(intSample);
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object longContains_success() {
+    return assertThat(longs).contains(longSample);
+  }
+
+  @Benchmark
+  public Object longContains_failure() {
+    try {
+      return assertThat(longs).contains(longMissing);
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object longContainsOnly_success() {
+    return assertThat(longs).containsOnly(longs);
+  }
+
+  @Benchmark
+  public Object longContainsOnly_failure() {
+    try {
+      return assertThat(longs).containsOnly(longSample);
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object longExcludes_success() {
+    return assertThat(longs).excludes(longMissing);
+  }
+
+  @Benchmark
+  public Object longExcludes_failure() {
+    try {
+      return assertThat(longs).excludes(longSample);
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object doubleContains_success() {
+    return assertThat(doubles).contains(doubleSample);
+  }
+
+  @Benchmark
+  public Object doubleContains_failure() {
+    try {
+      return assertThat(doubles).contains(doubleMissing);
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object doubleContainsOnly_success() {
+    return assertThat(doubles).containsOnly(doubles);
+  }
+
+  @Benchmark
+  public Object doubleContainsOnly_failure() {
+    try {
+      return assertThat(doubles).containsOnly(doubleSample);
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object doubleExcludes_success() {
+    return assertThat(doubles).excludes(doubleMissing);
+  }
+
+  @Benchmark
+  public Object doubleExcludes_failure() {
+    try {
+      return assertThat(doubles).excludes(doubleSample);
+    } catch (AssertionError e) {
+      return e;
+    }
+  }
+}
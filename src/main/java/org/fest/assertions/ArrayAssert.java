@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Set;
 
 import static org.fest.assertions.ArrayInspection.*;
+import static org.fest.util.Lists.newArrayList;
 
 /**
  * Assertions for arrays.
@@ -50,6 +51,110 @@ public abstract class ArrayAssert<S, A> extends ItemGroupAssert<S, A> {
     return sizeOf(actual);
   }
 
+  /**
+   * Verifies that the actual array contains the given values, in any order. Elements are compared through their
+   * {@link PrimitiveArray} keys, so no element is boxed unless the assertion fails.
+   *
+   * @param values the values to look for.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the actual array does not contain the given values.
+   */
+  final void assertContains(@Nonnull PrimitiveArray values) {
+    isNotNull();
+    LongHashSet expected = values.keys();
+    PrimitiveArray actualValues = PrimitiveArray.of(actual);
+    int remaining = expected.size();
+    for (int i = 0; i < actualValues.length() && remaining > 0; i++) {
+      if (expected.mark(actualValues.keyAt(i))) {
+        remaining--;
+      }
+    }
+    if (remaining == 0) {
+      return;
+    }
+    throw failureIfExpectedElementsNotFound(valuesIn(values, expected, false));
+  }
+
+  /**
+   * Verifies that the actual array contains the given values <strong>only</strong>, in any order. Elements are compared
+   * through their {@link PrimitiveArray} keys, so no element is boxed unless the assertion fails.
+   *
+   * @param values the values to look for.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the actual array does not contain the given values, or if the actual array contains
+   *                        elements other than the ones specified.
+   */
+  final void assertContainsOnly(@Nonnull PrimitiveArray values) {
+    isNotNull();
+    LongHashSet expected = values.keys();
+    PrimitiveArray actualValues = PrimitiveArray.of(actual);
+    LongHashSet unexpectedKeys = null;
+    List<Object> unexpected = null;
+    for (int i = 0; i < actualValues.length(); i++) {
+      long key = actualValues.keyAt(i);
+      if (expected.contains(key)) {
+        expected.mark(key);
+        continue;
+      }
+      if (unexpectedKeys == null) {
+        unexpectedKeys = new LongHashSet();
+        unexpected = newArrayList();
+      }
+      if (unexpectedKeys.add(key)) {
+        unexpected.add(actualValues.valueAt(i));
+      }
+    }
+    List<Object> notFound = newArrayList();
+    for (int i = 0; i < values.length(); i++) {
+      // marking the missing value as well, so duplicates in the given values are reported once
+      if (expected.mark(values.keyAt(i))) {
+        notFound.add(values.valueAt(i));
+      }
+    }
+    if (!notFound.isEmpty()) {
+      throw failureIfExpectedElementsNotFound(notFound);
+    }
+    if (unexpected == null) {
+      return;
+    }
+    throw failureIfUnexpectedElementsFound(unexpected);
+  }
+
+  /**
+   * Verifies that the actual array does not contain the given values. Elements are compared through their
+   * {@link PrimitiveArray} keys, so no element is boxed unless the assertion fails.
+   *
+   * @param values the values the array should exclude.
+   * @throws AssertionError if the actual array is {@code null}.
+   * @throws AssertionError if the actual array contains any of the given values.
+   */
+  final void assertExcludes(@Nonnull PrimitiveArray values) {
+    isNotNull();
+    LongHashSet excluded = values.keys();
+    PrimitiveArray actualValues = PrimitiveArray.of(actual);
+    int remaining = excluded.size();
+    for (int i = 0; i < actualValues.length() && remaining > 0; i++) {
+      if (excluded.mark(actualValues.keyAt(i))) {
+        remaining--;
+      }
+    }
+    if (remaining == excluded.size()) {
+      return;
+    }
+    throw failureIfExcludedElementsFound(valuesIn(values, excluded, true));
+  }
+
+  private static @Nonnull List<Object> valuesIn(@Nonnull PrimitiveArray values, @Nonnull LongHashSet keys,
+                                                boolean marked) {
+    List<Object> result = newArrayList();
+    for (int i = 0; i < values.length(); i++) {
+      if (keys.isMarked(values.keyAt(i)) == marked) {
+        result.add(values.valueAt(i));
+      }
+    }
+    return result;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -29,7 +29,7 @@ import static org.fest.assertions.Formatting.valueOf;
  */
 public abstract class Assert {
   private Description description;
-  private String errorMessage;
+  private Description errorMessage;
 
   /**
    * @return the description of the actual value in this assertion.
@@ -89,6 +89,17 @@ public abstract class Assert {
    * @param message the new error message.
    */
   protected final void replaceDefaultErrorMessagesWith(@Nullable String message) {
+    replaceDefaultErrorMessagesWith(message == null ? null : new BasicDescription(message));
+  }
+
+  /**
+   * Specifies the message to use in case of a failure, replacing the default one. The value of the given
+   * {@code Description} is only obtained when a failure occurs.
+   *
+   * @param message the new error message.
+   * @since 1.5
+   */
+  protected final void replaceDefaultErrorMessagesWith(@Nullable Description message) {
     errorMessage = message;
   }
 
@@ -98,7 +109,7 @@ public abstract class Assert {
    * @return the message to use when a failure occurs, or {@code null} if none has been specified.
    */
   protected final @Nullable String customErrorMessage() {
-    return errorMessage;
+    return valueOf(errorMessage);
   }
 
   /**
@@ -45,6 +45,26 @@ public class CollectionAssert extends ObjectGroupAssert<CollectionAssert, Collec
     super(CollectionAssert.class, actual);
   }
 
+  /**
+   * Verifies that the actual collection contains the given objects, and nothing else, in any order. Unlike
+   * {@link #containsOnly(Object...)}, duplicates are taken into account: each object must be in the actual collection
+   * as many times as it is given.
+   *
+   * @param objects the objects to look for.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual collection is {@code null}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws AssertionError       if the actual collection does not contain the given objects as many times as they are
+   *                              given, or if it contains other objects.
+   * @since 1.5
+   */
+  public @Nonnull CollectionAssert containsExactlyInAnyOrder(@Nonnull Object... objects) {
+    checkNotNull(objects);
+    isNotNull();
+    assertContainsExactlyInAnyOrder(actual, objects);
+    return this;
+  }
+
   /**
    * Returns the number of elements in the actual collection.
    *
@@ -0,0 +1,106 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+/**
+ * Bounded pool of daemon threads shared by the assertions that can split their work into independent parts (e.g.
+ * comparing bands of rows of two images.) The pool is created the first time it is used, and has one thread per
+ * available processor.
+ *
+ * @since 1.5
+ */
+final class ComparisonExecutor {
+  private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+  private static ExecutorService executor;
+
+  private ComparisonExecutor() {
+  }
+
+  static int parallelism() {
+    return PARALLELISM;
+  }
+
+  static synchronized @Nonnull ExecutorService executor() {
+    if (executor == null) {
+      executor = newFixedThreadPool(PARALLELISM, new DaemonThreadFactory());
+    }
+    return executor;
+  }
+
+  /**
+   * Waits for the given task to finish and returns its result. Any exception thrown by the task is thrown by this
+   * method, unchecked exceptions and errors as they are, checked exceptions wrapped in a {@code RuntimeException}.
+   *
+   * @param task the task to wait for.
+   * @return the result of the task.
+   * @throws IllegalStateException if the current thread is interrupted while waiting.
+   */
+  static <T> T resultOf(@Nonnull Future<T> task) {
+    return resultOf(task, RuntimeException.class);
+  }
+
+  /**
+   * Waits for the given task to finish and returns its result. Any exception thrown by the task is thrown by this
+   * method: unchecked exceptions, errors and exceptions of the given type as they are, other checked exceptions wrapped
+   * in a {@code RuntimeException}.
+   *
+   * @param task          the task to wait for.
+   * @param exceptionType the type of the checked exceptions thrown by the task.
+   * @return the result of the task.
+   * @throws E                     if the task throws an exception of the given type.
+   * @throws IllegalStateException if the current thread is interrupted while waiting.
+   */
+  static <T, E extends Exception> T resultOf(@Nonnull Future<T> task, @Nonnull Class<E> exceptionType) throws E {
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a comparison to finish", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (exceptionType.isInstance(cause)) {
+        throw exceptionType.cast(cause);
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new RuntimeException(cause);
+    }
+  }
+
+  private static class DaemonThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread thread = new Thread(r, "fest-comparison-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
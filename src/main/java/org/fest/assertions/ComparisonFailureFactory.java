@@ -16,11 +16,14 @@ package org.fest.assertions;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Map;
 
+import static org.fest.assertions.Fail.stackTraceMode;
+import static org.fest.assertions.Formatting.toStringOf;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Strings.isNullOrEmpty;
 import static org.fest.util.Strings.quote;
-import static org.fest.util.ToString.toStringOf;
 
 /**
  * Creates instances of JUnit's {@code ComparisonFailure}.
@@ -45,7 +48,8 @@ public final class ComparisonFailureFactory {
    * @param message  the identifying message or {@code null}.
    * @param expected the expected value.
    * @param actual   the actual value.
-   * @return the created {@code ComparisonFailure}, or {@code null} if JUnit 4+ is not in the classpath.
+   * @return the created {@code ComparisonFailure}, or {@code null} if JUnit 4+ is not in the classpath. Its stack trace
+   *         depends on the current {@link StackTraceMode}.
    */
   public static @Nullable AssertionError comparisonFailure(
       @Nullable String message, @Nullable Object expected, @Nullable Object actual) {
@@ -67,19 +71,24 @@ public final class ComparisonFailureFactory {
     Object[] parameterValues = new Object[]{format(message), asString(expected), asString(actual)};
     Object o = constructorInvoker.newInstance(className, parameterTypes, parameterValues);
     if (o instanceof AssertionError) {
-      return (AssertionError) o;
+      return stackTraceMode().applyTo((AssertionError) o);
     }
     return null;
   }
 
+  /*
+   * JUnit shows where the two operands of a ComparisonFailure differ, so cutting a String could hide the difference:
+   * Strings and other single values are passed in full. Only arrays, Collections and Maps use the bounded
+   * representation.
+   */
   private static @Nullable String asString(@Nullable Object o) {
     if (o instanceof String) {
       return quote((String) o);
     }
-    if (o == null) {
-      return null;
+    if (o == null || o.getClass().isArray() || o instanceof Collection<?> || o instanceof Map<?, ?>) {
+      return toStringOf(o);
     }
-    return toStringOf(o);
+    return org.fest.util.ToString.toStringOf(o);
   }
 
   private static @Nonnull String format(@Nullable String message) {
@@ -0,0 +1,122 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * {@link SoftAssertions} that can be shared by several threads, for example to verify responses from the tasks of an
+ * executor:
+ * <pre>
+ * final ConcurrentSoftAssertions softly = new ConcurrentSoftAssertions();
+ * for (final Request request : requests) {
+ *   executor.submit(new Runnable() {
+ *     public void run() {
+ *       final Response response = send(request);
+ *       softly.check(new Runnable() {
+ *         public void run() {
+ *           assertThat(response.status()).isEqualTo(200);
+ *         }
+ *       });
+ *     }
+ *   });
+ * }
+ * executor.shutdown();
+ * executor.awaitTermination(1, MINUTES);
+ * softly.assertAll();
+ * </pre>
+ * <p/>
+ * Each thread collects its failures in a buffer of its own, so threads running checks never wait for each other. The
+ * buffers are merged by {@link #errors()} and {@link #assertAll()}, which must be called once the threads running
+ * checks are done and their completion has been observed, for example through {@code Thread.join},
+ * {@code Future.get} or {@code ExecutorService.awaitTermination}. Failures are listed thread by thread, in the order
+ * each thread collected them.
+ * <p/>
+ * The buffers are owned by this object, not by the threads, so pooled threads keep no reference to them.
+ * {@link #assertAll()} also releases the threads that ran checks, keeping only the failures they collected.
+ *
+ * @since 1.5
+ */
+public class ConcurrentSoftAssertions extends SoftAssertions {
+  private final ConcurrentMap<Thread, List<AssertionError>> buffersByThread =
+      new ConcurrentHashMap<Thread, List<AssertionError>>();
+  private final Queue<List<AssertionError>> buffers = new ConcurrentLinkedQueue<List<AssertionError>>();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nonnull ConcurrentSoftAssertions capturingStackTraces() {
+    super.capturingStackTraces();
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nonnull ConcurrentSoftAssertions check(@Nonnull Runnable assertions) {
+    super.check(assertions);
+    return this;
+  }
+
+  /*
+   * Only the current thread adds a buffer for itself, so there is no race between looking up its buffer and adding it.
+   */
+  @Override
+  void record(@Nonnull AssertionError error) {
+    Thread currentThread = Thread.currentThread();
+    List<AssertionError> buffer = buffersByThread.get(currentThread);
+    if (buffer == null) {
+      buffer = newArrayList();
+      buffersByThread.put(currentThread, buffer);
+      buffers.add(buffer);
+    }
+    buffer.add(error);
+  }
+
+  /**
+   * Returns the failures collected so far by all threads.
+   *
+   * @return the failures collected so far.
+   */
+  @Override
+  public @Nonnull List<AssertionError> errors() {
+    List<AssertionError> errors = newArrayList();
+    for (List<AssertionError> buffer : buffers) {
+      errors.addAll(buffer);
+    }
+    return errors;
+  }
+
+  /**
+   * Verifies that none of the checks failed, and releases the threads that ran checks: failures collected from now on
+   * start new buffers, listed after the failures collected so far.
+   *
+   * @throws AssertionError listing the messages of all the failures collected, if any.
+   */
+  @Override
+  public void assertAll() {
+    buffersByThread.clear();
+    super.assertAll();
+  }
+}
@@ -15,24 +15,29 @@
 package org.fest.assertions;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import static java.util.Arrays.asList;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Preconditions.checkNotNullOrEmpty;
 
 /**
- * Constructor access through Java reflection.
+ * Constructor access through Java reflection. Constructors are looked up only once per class name and parameter types:
+ * both the constructors found and the failures to find them are cached.
  *
  * @author Yvonne Wang
  * @author Alex Ruiz
  */
 class ConstructorInvoker {
-  private static Logger logger = Logger.getLogger(ConstructorInvoker.class.getCanonicalName());
+  private final ConcurrentMap<List<Object>, ConstructorLookup> lookups =
+      new ConcurrentHashMap<List<Object>, ConstructorLookup>();
 
   @Nonnull Object newInstance(
       @Nonnull String className, @Nonnull Class<?>[] parameterTypes, @Nonnull Object[] parameterValues)
@@ -40,18 +45,33 @@ class ConstructorInvoker {
     checkNotNullOrEmpty(className);
     checkNotNull(parameterTypes);
     checkNotNull(parameterValues);
-    Class<?> targetType = Class.forName(className);
-    Constructor<?> constructor = targetType.getConstructor(parameterTypes);
-    boolean accessible = constructor.isAccessible();
+    return constructor(className, parameterTypes).newInstance(parameterValues);
+  }
+
+  private @Nonnull Constructor<?> constructor(@Nonnull String className, @Nonnull Class<?>[] parameterTypes)
+      throws Exception {
+    List<Object> key = asList(className, asList(parameterTypes));
+    ConstructorLookup lookup = lookups.get(key);
+    if (lookup == null) {
+      lookup = lookUp(className, parameterTypes);
+      lookups.putIfAbsent(key, lookup);
+    }
+    if (lookup.failure != null) {
+      throw lookup.failure;
+    }
+    return checkNotNull(lookup.constructor);
+  }
+
+  private @Nonnull ConstructorLookup lookUp(@Nonnull String className, @Nonnull Class<?>[] parameterTypes) {
     try {
-      setAccessible(constructor, true);
-      return constructor.newInstance(parameterValues);
-    } finally {
-      try {
-        setAccessible(constructor, accessible);
-      } catch (RuntimeException e) {
-        logger.log(Level.SEVERE, "Failed to set 'accessible' flag back to " + accessible, e);
+      Class<?> targetType = Class.forName(className);
+      Constructor<?> constructor = targetType.getConstructor(parameterTypes);
+      if (!constructor.isAccessible()) {
+        setAccessible(constructor, true);
       }
+      return new ConstructorLookup(constructor, null);
+    } catch (Exception e) {
+      return new ConstructorLookup(null, e);
     }
   }
 
@@ -59,6 +79,16 @@ class ConstructorInvoker {
     AccessController.doPrivileged(new SetAccessibleValueAction(accessible, value));
   }
 
+  private static class ConstructorLookup {
+    final Constructor<?> constructor;
+    final Exception failure;
+
+    ConstructorLookup(@Nullable Constructor<?> constructor, @Nullable Exception failure) {
+      this.constructor = constructor;
+      this.failure = failure;
+    }
+  }
+
   private static class SetAccessibleValueAction implements PrivilegedAction<Void> {
     private final AccessibleObject accessible;
     private final boolean value;
@@ -0,0 +1,159 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.util.Collections.sort;
+import static org.fest.assertions.ComparisonExecutor.executor;
+import static org.fest.assertions.ComparisonExecutor.resultOf;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Sets.newLinkedHashSet;
+
+/**
+ * Compares the contents of two directories, including their subdirectories. Files present in both directories are
+ * compared by size first and then, in parallel in the {@link ComparisonExecutor}, byte by byte. Symbolic links are
+ * followed, except when they lead back to a directory being walked.
+ *
+ * @since 1.5
+ */
+class DirectoryComparator {
+  private static final char SEPARATOR = '/';
+
+  private final FileContentComparator contentComparator;
+
+  DirectoryComparator(@Nonnull FileContentComparator contentComparator) {
+    this.contentComparator = contentComparator;
+  }
+
+  /*
+   * Paths are relative to the compared directories, use '/' as separator and end with '/' for directories, so a
+   * directory in place of a file is reported as a missing entry and an unexpected one.
+   */
+  @Nonnull DirectoryDiff compareContents(@Nonnull File actual, @Nonnull File expected) throws IOException {
+    SortedMap<String, File> actualEntries = entriesOf(actual);
+    SortedMap<String, File> expectedEntries = entriesOf(expected);
+    DirectoryDiff diff = new DirectoryDiff();
+    List<String> comparedPaths = newArrayList();
+    List<Future<Boolean>> comparisons = newArrayList();
+    ExecutorService executor = executor();
+    try {
+      for (Map.Entry<String, File> expectedEntry : expectedEntries.entrySet()) {
+        String path = expectedEntry.getKey();
+        File actualFile = actualEntries.remove(path);
+        if (actualFile == null) {
+          diff.missing.add(path);
+          continue;
+        }
+        if (isDirectory(path)) {
+          continue;
+        }
+        File expectedFile = expectedEntry.getValue();
+        if (actualFile.length() != expectedFile.length()) {
+          diff.different.add(path);
+          continue;
+        }
+        comparedPaths.add(path);
+        comparisons.add(executor.submit(new HaveSameBytes(actualFile, expectedFile)));
+      }
+      diff.unexpected.addAll(actualEntries.keySet());
+      for (int i = 0; i < comparisons.size(); i++) {
+        if (!resultOf(comparisons.get(i), IOException.class)) {
+          diff.different.add(comparedPaths.get(i));
+        }
+      }
+    } finally {
+      for (Future<Boolean> comparison : comparisons) {
+        comparison.cancel(false);
+      }
+    }
+    sort(diff.different);
+    return diff;
+  }
+
+  private static boolean isDirectory(@Nonnull String path) {
+    return path.charAt(path.length() - 1) == SEPARATOR;
+  }
+
+  private static @Nonnull SortedMap<String, File> entriesOf(@Nonnull File directory) throws IOException {
+    SortedMap<String, File> entries = new TreeMap<String, File>();
+    Set<File> ancestors = newLinkedHashSet();
+    ancestors.add(directory.getCanonicalFile());
+    addEntries(directory, "", entries, ancestors);
+    return entries;
+  }
+
+  /*
+   * A directory whose canonical path is the one of a directory being walked (a symbolic link to one of its ancestors)
+   * is listed as an entry but not walked again, so cycles of symbolic links end instead of overflowing the stack.
+   */
+  private static void addEntries(@Nonnull File directory, @Nonnull String parentPath,
+                                 @Nonnull SortedMap<String, File> entries, @Nonnull Set<File> ancestors)
+      throws IOException {
+    File[] files = directory.listFiles();
+    if (files == null) {
+      throw new IOException(String.format("Unable to list the contents of directory <%s>", directory));
+    }
+    for (File file : files) {
+      String path = parentPath + file.getName();
+      if (!file.isDirectory()) {
+        entries.put(path, file);
+        continue;
+      }
+      String directoryPath = path + SEPARATOR;
+      entries.put(directoryPath, file);
+      File canonicalFile = file.getCanonicalFile();
+      if (ancestors.add(canonicalFile)) {
+        addEntries(file, directoryPath, entries, ancestors);
+        ancestors.remove(canonicalFile);
+      }
+    }
+  }
+
+  private class HaveSameBytes implements Callable<Boolean> {
+    private final File actual;
+    private final File expected;
+
+    HaveSameBytes(@Nonnull File actual, @Nonnull File expected) {
+      this.actual = actual;
+      this.expected = expected;
+    }
+
+    @Override
+    public Boolean call() throws IOException {
+      return contentComparator.haveSameBytes(actual, expected);
+    }
+  }
+
+  static class DirectoryDiff {
+    final List<String> missing = newArrayList();
+    final List<String> unexpected = newArrayList();
+    final List<String> different = newArrayList();
+
+    boolean isEmpty() {
+      return missing.isEmpty() && unexpected.isEmpty() && different.isEmpty();
+    }
+  }
+}
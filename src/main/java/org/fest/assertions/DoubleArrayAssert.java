@@ -19,7 +19,6 @@ import javax.annotation.Nullable;
 import java.util.Arrays;
 
 import static java.lang.Math.abs;
-import static org.fest.assertions.ArrayInspection.copy;
 import static org.fest.assertions.ErrorMessages.unexpectedEqual;
 import static org.fest.assertions.ErrorMessages.unexpectedNotEqual;
 import static org.fest.assertions.Formatting.format;
@@ -53,7 +52,7 @@ public class DoubleArrayAssert extends ArrayAssert<DoubleArrayAssert, double[]>
    * @throws AssertionError       if the actual {@code double} array does not contain the given values.
    */
   public @Nonnull DoubleArrayAssert contains(@Nonnull double... values) {
-    assertContains(copy(values));
+    assertContains(PrimitiveArray.of(values));
     return this;
   }
 
@@ -68,7 +67,7 @@ public class DoubleArrayAssert extends ArrayAssert<DoubleArrayAssert, double[]>
    *                              {@code double} array contains elements other than the ones specified.
    */
   public @Nonnull DoubleArrayAssert containsOnly(@Nonnull double... values) {
-    assertContainsOnly(copy(values));
+    assertContainsOnly(PrimitiveArray.of(values));
     return this;
   }
 
@@ -82,7 +81,7 @@ public class DoubleArrayAssert extends ArrayAssert<DoubleArrayAssert, double[]>
    * @throws AssertionError       if the actual {@code double} array contains any of the given values.
    */
   public @Nonnull DoubleArrayAssert excludes(@Nonnull double... values) {
-    assertExcludes(copy(values));
+    assertExcludes(PrimitiveArray.of(values));
     return this;
   }
 
@@ -0,0 +1,149 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts occurrences of objects, compared with {@code equals}. Counts are kept in an open-addressing hash table of
+ * {@code int}s, so they are never boxed. Only the counts are kept: the order of the counted objects is given by the
+ * caller when reporting counts.
+ *
+ * @since 1.5
+ */
+final class ElementCounter {
+  private static final Object NULL = new Object();
+  private static final int MIN_CAPACITY = 16;
+
+  private Object[] keys;
+  private int[] counts;
+  private int distinctCount;
+  private int nonZeroCount;
+
+  /**
+   * Creates a new {@link ElementCounter}.
+   *
+   * @param expectedDistinctCount the number of distinct objects expected to be counted.
+   */
+  ElementCounter(int expectedDistinctCount) {
+    int capacity = MIN_CAPACITY;
+    while (capacity < expectedDistinctCount * 2 && capacity < (1 << 30)) {
+      capacity <<= 1;
+    }
+    keys = new Object[capacity];
+    counts = new int[capacity];
+  }
+
+  /**
+   * Adds the given amount to the count of the given object.
+   *
+   * @param o     the object to count. It can be {@code null}.
+   * @param delta the amount to add, which can be negative.
+   */
+  void add(@Nullable Object o, int delta) {
+    Object key = o == null ? NULL : o;
+    int slot = slotOf(key);
+    if (keys[slot] == null) {
+      keys[slot] = key;
+      distinctCount++;
+    }
+    int count = counts[slot];
+    counts[slot] = count + delta;
+    if (count == 0 && delta != 0) {
+      nonZeroCount++;
+    } else if (count != 0 && count + delta == 0) {
+      nonZeroCount--;
+    }
+    if (distinctCount * 2 > keys.length) {
+      resize();
+    }
+  }
+
+  /**
+   * Indicates whether the count of every object is zero.
+   *
+   * @return {@code true} if the count of every object is zero, {@code false} otherwise.
+   */
+  boolean allCountsAreZero() {
+    return nonZeroCount == 0;
+  }
+
+  /**
+   * Returns the given objects that have a positive count, with their counts, in the order of the given objects.
+   *
+   * @param objects the objects to report, usually the ones whose count was increased.
+   * @return the given objects with a positive count.
+   */
+  @Nonnull Map<Object, Integer> positiveCounts(@Nonnull Iterable<?> objects) {
+    return counts(objects, 1);
+  }
+
+  /**
+   * Returns the given objects that have a negative count, with the absolute value of their counts, in the order of the
+   * given objects.
+   *
+   * @param objects the objects to report, usually the ones whose count was decreased.
+   * @return the given objects with a negative count.
+   */
+  @Nonnull Map<Object, Integer> negativeCounts(@Nonnull Iterable<?> objects) {
+    return counts(objects, -1);
+  }
+
+  private @Nonnull Map<Object, Integer> counts(@Nonnull Iterable<?> objects, int sign) {
+    Map<Object, Integer> counts = new LinkedHashMap<Object, Integer>();
+    for (Object o : objects) {
+      if (counts.containsKey(o)) {
+        continue;
+      }
+      int count = countOf(o) * sign;
+      if (count > 0) {
+        counts.put(o, count);
+      }
+    }
+    return counts;
+  }
+
+  private int countOf(@Nullable Object o) {
+    int slot = slotOf(o == null ? NULL : o);
+    return keys[slot] == null ? 0 : counts[slot];
+  }
+
+  private int slotOf(@Nonnull Object key) {
+    int mask = keys.length - 1;
+    int h = key.hashCode();
+    int slot = (h ^ (h >>> 16)) & mask;
+    while (keys[slot] != null && !keys[slot].equals(key)) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void resize() {
+    Object[] oldKeys = keys;
+    int[] oldCounts = counts;
+    keys = new Object[oldKeys.length * 2];
+    counts = new int[oldKeys.length * 2];
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != null) {
+        int slot = slotOf(oldKeys[i]);
+        keys[slot] = oldKeys[i];
+        counts[slot] = oldCounts[i];
+      }
+    }
+  }
+}
@@ -21,8 +21,10 @@ import static org.fest.assertions.ComparisonFailureFactory.comparisonFailure;
 import static org.fest.assertions.ErrorMessages.unexpectedEqual;
 import static org.fest.assertions.ErrorMessages.unexpectedNotEqual;
 import static org.fest.assertions.Formatting.*;
+import static org.fest.assertions.StackTraceMode.FULL;
 import static org.fest.util.Arrays.array;
 import static org.fest.util.Objects.areEqual;
+import static org.fest.util.Preconditions.checkNotNull;
 
 /**
  * Common failures.
@@ -31,6 +33,9 @@ import static org.fest.util.Objects.areEqual;
  * @author Yvonne Wang
  */
 public final class Fail {
+  private static volatile StackTraceMode stackTraceMode = FULL;
+  private static final ThreadLocal<StackTraceMode> currentThreadStackTraceMode = new ThreadLocal<StackTraceMode>();
+
   /**
    * This constructor is protected to make it possible to subclass this class. Since all its methods are static, there
    * is no point on creating a new instance of it.
@@ -38,6 +43,46 @@ public final class Fail {
   protected Fail() {
   }
 
+  /**
+   * Specifies how much of the stack trace is captured by the {@code AssertionError}s thrown by failed assertions.
+   *
+   * @param mode the new stack trace mode.
+   * @throws NullPointerException if the given mode is {@code null}.
+   * @since 1.5
+   */
+  public static void useStackTraceMode(@Nonnull StackTraceMode mode) {
+    stackTraceMode = checkNotNull(mode);
+  }
+
+  /**
+   * Returns how much of the stack trace is captured by the {@code AssertionError}s thrown by failed assertions in the
+   * current thread.
+   *
+   * @return the current stack trace mode.
+   * @since 1.5
+   */
+  public static @Nonnull StackTraceMode stackTraceMode() {
+    StackTraceMode mode = currentThreadStackTraceMode.get();
+    return mode != null ? mode : stackTraceMode;
+  }
+
+  /**
+   * Overrides the stack trace mode in the current thread only.
+   *
+   * @param mode the stack trace mode to use in the current thread, or {@code null} to use the one specified by
+   *             {@link #useStackTraceMode(StackTraceMode)}.
+   * @return the stack trace mode previously used by the current thread only, or {@code null} if there was none.
+   */
+  static @Nullable StackTraceMode useStackTraceModeInCurrentThread(@Nullable StackTraceMode mode) {
+    StackTraceMode previous = currentThreadStackTraceMode.get();
+    if (mode == null) {
+      currentThreadStackTraceMode.remove();
+    } else {
+      currentThreadStackTraceMode.set(mode);
+    }
+    return previous;
+  }
+
   /**
    * Fails with no message.
    *
@@ -267,13 +312,14 @@ public final class Fail {
   }
 
   /**
-   * Creates a {@code AssertionError} with the given message.
+   * Creates a {@code AssertionError} with the given message. The stack trace of the created exception depends on the
+   * current {@link StackTraceMode}.
    *
    * @param message the message of the exception to create.
    * @return the created exception.
    * @since 1.2
    */
   public static @Nonnull AssertionError failure(@Nullable String message) {
-    return new AssertionError(message);
+    return stackTraceMode().newAssertionError(message);
   }
 }
@@ -14,6 +14,7 @@
  */
 package org.fest.assertions;
 
+import org.fest.assertions.DirectoryComparator.DirectoryDiff;
 import org.fest.assertions.FileContentComparator.LineDiff;
 import org.fest.util.VisibleForTesting;
 
@@ -21,7 +22,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 
+import static org.fest.assertions.FileContentComparator.MAX_LINE_DIFFS;
+import static org.fest.assertions.FileContentOptions.fileContentOptions;
 import static org.fest.assertions.Formatting.format;
 import static org.fest.assertions.Formatting.inBrackets;
 import static org.fest.util.Arrays.isNullOrEmpty;
@@ -31,6 +35,11 @@ import static org.fest.util.Preconditions.checkNotNull;
  * Assertions for {@code File}.
  * <p/>
  * To create a new instance of this class invoke {@link Assertions#assertThat(File)}.
+ * <p/>
+ * Whether the actual {@code File} exists, is a regular file or a directory, and its size, are read from the file system
+ * the first time a check needs them, and reused by the following checks of the same assertion object while they pass.
+ * They are read again after a failed check. To verify a file that may have changed since it was last checked, create a
+ * new assertion object with {@link Assertions#assertThat(File)}.
  *
  * @author David DIDIER
  * @author Yvonne Wang
@@ -38,6 +47,8 @@ import static org.fest.util.Preconditions.checkNotNull;
  */
 public class FileAssert extends GenericAssert<FileAssert, File> {
   private final FileContentComparator comparator;
+  private FileDigestCache expectedDigests;
+  private FileAttributes attributes;
 
   /**
    * Creates a new {@link FileAssert}.
@@ -53,8 +64,43 @@ public class FileAssert extends GenericAssert<FileAssert, File> {
     this.comparator = comparator;
   }
 
+  /*
+   * Attributes of the actual file are read once per assertion object, so a chain of assertions on the same file does
+   * not read the same attribute from the file system more than once.
+   */
+  private @Nonnull FileAttributes attributes() {
+    if (attributes == null) {
+      attributes = new FileAttributes(checkNotNull(actual));
+    }
+    return attributes;
+  }
+
+  /*
+   * A failed check may be retried, or the file may be fixed and checked again, with the same assertion object: the
+   * attributes read so far must not be trusted after a failure.
+   */
+  private void forgetAttributes() {
+    attributes = null;
+  }
+
   /**
-   * Verifies that the actual {@code File} does not exist.
+   * Makes {@link #hasSameContentAs(File)} and {@link #hasSameContentAs(File, FileContentOptions)} compare the digest of
+   * the contents of the actual {@code File} with a cached digest of the contents of the expected one. The cache is
+   * shared by all {@code FileAssert}s in the JVM and a cached digest is reused while the path, size and last
+   * modification time of its file do not change, which saves reading the same expected file over and over. Lines are
+   * compared, to describe the differences, only if the digests are not equal.
+   *
+   * @return this assertion object.
+   * @since 1.5
+   */
+  public @Nonnull FileAssert usingExpectedDigestCache() {
+    expectedDigests = FileDigestCache.instance();
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code File} does not exist. Whether it exists is read again only if a previous check of
+   * this object failed.
    *
    * @return this assertion object.
    * @throws AssertionError if the the actual {@code File} is {@code null}.
@@ -62,15 +108,17 @@ public class FileAssert extends GenericAssert<FileAssert, File> {
    */
   public @Nonnull FileAssert doesNotExist() {
     isNotNull();
-    if (!actual.exists()) {
+    if (!attributes().exists()) {
       return this;
     }
+    forgetAttributes();
     failIfCustomMessageIsSet();
     throw failure(format("file:<%s> should not exist", actual));
   }
 
   /**
-   * Verifies that the actual {@code File} does exist.
+   * Verifies that the actual {@code File} does exist. Whether it exists is read again only if a previous check of this
+   * object failed.
    *
    * @return this assertion object.
    * @throws AssertionError if the the actual {@code File} is {@code null}.
@@ -78,12 +126,13 @@ public class FileAssert extends GenericAssert<FileAssert, File> {
    */
   public @Nonnull FileAssert exists() {
     isNotNull();
-    assertExists(actual);
+    assertExists(actual, attributes().exists());
     return this;
   }
 
   /**
-   * Verifies that the size of the actual {@code File} is equal to the given one.
+   * Verifies that the size of the actual {@code File} is equal to the given one. The size is read again only if a
+   * previous check of this object failed.
    *
    * @param expected the expected size of the actual {@code File}.
    * @return this assertion object.
@@ -92,16 +141,18 @@ public class FileAssert extends GenericAssert<FileAssert, File> {
    */
   public @Nonnull FileAssert hasSize(long expected) {
     isNotNull();
-    long size = actual.length();
+    long size = attributes().length();
     if (size == expected) {
       return this;
     }
+    forgetAttributes();
     failIfCustomMessageIsSet();
     throw failure(format("size of file:<%s> expected:<%s> but was:<%s>", actual, expected, size));
   }
 
   /**
-   * Verifies that the actual {@code File} is a directory.
+   * Verifies that the actual {@code File} is a directory. Whether it is a directory is read again only if a previous
+   * check of this object failed.
    *
    * @return this assertion object.
    * @throws AssertionError if the the actual {@code File} is {@code null}.
@@ -109,15 +160,17 @@ public class FileAssert extends GenericAssert<FileAssert, File> {
    */
   public @Nonnull FileAssert isDirectory() {
     isNotNull();
-    if (actual.isDirectory()) {
+    if (attributes().isDirectory()) {
       return this;
     }
+    forgetAttributes();
     failIfCustomMessageIsSet();
     throw failure(format("file:<%s> should be a directory", actual));
   }
 
   /**
-   * Verifies that the actual {@code File} is a regular file.
+   * Verifies that the actual {@code File} is a regular file. Whether it is a regular file is read again only if a
+   * previous check of this object failed.
    *
    * @return this assertion object.
    * @throws AssertionError if the the actual {@code File} is {@code null}.
@@ -125,9 +178,10 @@ public class FileAssert extends GenericAssert<FileAssert, File> {
    */
   public @Nonnull FileAssert isFile() {
     isNotNull();
-    if (actual.isFile()) {
+    if (attributes().isFile()) {
       return this;
     }
+    forgetAttributes();
     failIfCustomMessageIsSet();
     throw failure(format("file:<%s> should be a file", actual));
   }
@@ -144,13 +198,33 @@ public class FileAssert extends GenericAssert<FileAssert, File> {
    * @throws AssertionError       if the content of the actual {@code File} is not equal to the content of the given one.
    */
   public @Nonnull FileAssert hasSameContentAs(@Nonnull File expected) {
+    return hasSameContentAs(expected, fileContentOptions());
+  }
+
+  /**
+   * Verifies that the content of the actual {@code File} is equal to the content of the given one, reading and
+   * comparing their lines using the given options. Options are applied while the files are read, so no copies of the
+   * files are needed. Files with different bytes that cannot be read as text using the charset in the options are
+   * reported as different at their first different byte.
+   *
+   * @param expected the given {@code File} to compare the actual {@code File} to.
+   * @param options  the options to use to read and compare the lines of both files.
+   * @return this assertion object.
+   * @throws NullPointerException if the file to compare to is {@code null}.
+   * @throws NullPointerException if the given options are {@code null}.
+   * @throws AssertionError       if the the actual {@code File} is {@code null}.
+   * @throws AssertionError       if the content of the actual {@code File} is not equal to the content of the given one.
+   * @since 1.5
+   */
+  public @Nonnull FileAssert hasSameContentAs(@Nonnull File expected, @Nonnull FileContentOptions options) {
     checkNotNull(expected);
+    checkNotNull(options);
     isNotNull();
-    assertExists(actual).assertExists(expected);
+    assertExists(actual, attributes().exists()).assertExists(expected, expected.exists());
     try {
-      LineDiff[] diffs = comparator.compareContents(actual, expected);
+      LineDiff[] diffs = comparator.compareContents(actual, expected, options, expectedDigests);
       if (!isNullOrEmpty(diffs)) {
-        fail(expected, diffs);
+        fail(expected, diffs, options);
       }
     } catch (IOException e) {
       cannotCompareToExpectedFile(expected, e);
@@ -158,28 +232,114 @@ public class FileAssert extends GenericAssert<FileAssert, File> {
     return this;
   }
 
-  private void fail(@Nonnull File expected, @Nonnull LineDiff[] diffs) {
+  /**
+   * Verifies that the actual {@code File} is a directory with the same contents as the given directory: both contain
+   * the same files and subdirectories, with the same names, and the files in both have the same bytes. Files with
+   * different sizes are reported as different without reading them, and the remaining files are compared in parallel.
+   * All the missing, unexpected and different files are reported in a single failure. Unlike
+   * {@link #hasSameContentAs(File)}, which compares lines, this method compares bytes: files with the same lines but
+   * different line separators or charsets are reported as different. Symbolic links are followed, except the ones
+   * leading to a directory that contains them, which are compared as empty directories.
+   *
+   * @param expected the given directory to compare the actual {@code File} to.
+   * @return this assertion object.
+   * @throws NullPointerException if the directory to compare to is {@code null}.
+   * @throws AssertionError       if the the actual {@code File} is {@code null}.
+   * @throws AssertionError       if the actual {@code File} or the given one is not a directory.
+   * @throws AssertionError       if the contents of the actual directory are not equal to the ones of the given one.
+   * @since 1.5
+   */
+  public @Nonnull FileAssert hasSameTreeAs(@Nonnull File expected) {
+    checkNotNull(expected);
+    isNotNull();
+    assertIsDirectory(actual, attributes().isDirectory()).assertIsDirectory(expected, expected.isDirectory());
+    try {
+      DirectoryDiff diff = new DirectoryComparator(comparator).compareContents(actual, expected);
+      if (!diff.isEmpty()) {
+        fail(expected, diff);
+      }
+    } catch (IOException e) {
+      cannotCompareToExpectedFile(expected, e);
+    }
+    return this;
+  }
+
+  private FileAssert assertIsDirectory(@Nonnull File file, boolean isDirectory) {
+    if (isDirectory) {
+      return this;
+    }
+    forgetAttributes();
+    failIfCustomMessageIsSet();
+    throw failure(format("file:<%s> should be a directory", file));
+  }
+
+  private void fail(@Nonnull File expected, @Nonnull DirectoryDiff diff) {
+    forgetAttributes();
+    failIfCustomMessageIsSet();
+    StringBuilder b = new StringBuilder();
+    b.append(String.format("directory:%s and directory:%s do not have same contents:", inBrackets(actual),
+        inBrackets(expected)));
+    appendPaths(b, "missing", diff.missing);
+    appendPaths(b, "unexpected", diff.unexpected);
+    appendPaths(b, "different", diff.different);
+    fail(b.toString());
+  }
+
+  private static void appendPaths(@Nonnull StringBuilder b, @Nonnull String description, @Nonnull List<String> paths) {
+    if (!paths.isEmpty()) {
+      b.append(String.format("%n%s:%s", description, inBrackets(paths)));
+    }
+  }
+
+  private void fail(@Nonnull File expected, @Nonnull LineDiff[] diffs, @Nonnull FileContentOptions options) {
+    forgetAttributes();
     failIfCustomMessageIsSet();
     StringBuilder b = new StringBuilder();
     b.append(String.format("file:%s and file:%s do not have same contents:", inBrackets(actual), inBrackets(expected)));
-    for (LineDiff diff : diffs) {
-      String line = String.format("%nline:<%d>, expected:%s but was:%s", diff.lineNumber, inBrackets(diff.expected),
-          inBrackets(diff.actual));
-      b.append(line);
+    if (diffs[0].isDifferentBytes()) {
+      b.append(String.format("%nbyte:<%d>, files cannot be read as text using charset:<%s>", diffs[0].byteOffset,
+          options.charset()));
+    } else {
+      appendLineDiffs(b, diffs);
     }
     fail(b.toString());
   }
 
+  private static void appendLineDiffs(@Nonnull StringBuilder b, @Nonnull LineDiff[] diffs) {
+    LineDiff last = diffs[diffs.length - 1];
+    int count = last.isComparisonStopped() ? diffs.length - 1 : diffs.length;
+    for (int i = 0; i < count && i < MAX_LINE_DIFFS; i++) {
+      b.append(String.format("%nline:<%d>, ", diffs[i].lineNumber)).append(describe(diffs[i]));
+    }
+    if (count > MAX_LINE_DIFFS) {
+      b.append(String.format("%n(comparison stopped after %d differences)", MAX_LINE_DIFFS));
+    } else if (last.isComparisonStopped()) {
+      b.append(String.format("%n(comparison stopped at line:<%d>)", last.lineNumber));
+    }
+  }
+
+  private static @Nonnull String describe(@Nonnull LineDiff diff) {
+    if (diff.expected == null) {
+      return String.format("unexpected:%s", inBrackets(diff.actual));
+    }
+    if (diff.actual == null) {
+      return String.format("missing:%s", inBrackets(diff.expected));
+    }
+    return String.format("expected:%s but was:%s", inBrackets(diff.expected), inBrackets(diff.actual));
+  }
+
   private void cannotCompareToExpectedFile(@Nonnull File expected, @Nonnull Exception e) {
+    forgetAttributes();
     failIfCustomMessageIsSet(e);
     String message = format("unable to compare contents of files:<%s> and <%s>", actual, expected);
     fail(message, e);
   }
 
-  private FileAssert assertExists(@Nonnull File file) {
-    if (file.exists()) {
+  private FileAssert assertExists(@Nonnull File file, boolean exists) {
+    if (exists) {
       return this;
     }
+    forgetAttributes();
     failIfCustomMessageIsSet();
     throw failure(format("file:<%s> should exist", file));
   }
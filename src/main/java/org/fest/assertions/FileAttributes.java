@@ -0,0 +1,75 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+
+/**
+ * The attributes of a {@code File}, each one read from the file system at most once. Attributes are inferred from the
+ * ones already read when possible: a regular file or a directory exists, and a file that does not exist is neither a
+ * regular file nor a directory, and its size is zero. Every attribute read from the file system may be a separate
+ * {@code stat} call, which is expensive on network file systems.
+ *
+ * @since 1.5
+ */
+class FileAttributes {
+  private final File file;
+
+  private Boolean exists;
+  private Boolean isFile;
+  private Boolean isDirectory;
+  private Long length;
+
+  FileAttributes(@Nonnull File file) {
+    this.file = file;
+  }
+
+  boolean exists() {
+    if (exists == null) {
+      exists = isTrue(isFile) || isTrue(isDirectory) || file.exists();
+    }
+    return exists;
+  }
+
+  boolean isFile() {
+    if (isFile == null) {
+      isFile = !isFalse(exists) && !isTrue(isDirectory) && file.isFile();
+    }
+    return isFile;
+  }
+
+  boolean isDirectory() {
+    if (isDirectory == null) {
+      isDirectory = !isFalse(exists) && !isTrue(isFile) && file.isDirectory();
+    }
+    return isDirectory;
+  }
+
+  long length() {
+    if (length == null) {
+      length = isFalse(exists) ? 0L : file.length();
+    }
+    return length;
+  }
+
+  private static boolean isTrue(Boolean b) {
+    return b != null && b;
+  }
+
+  private static boolean isFalse(Boolean b) {
+    return b != null && !b;
+  }
+}
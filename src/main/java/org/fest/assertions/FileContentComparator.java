@@ -17,10 +17,18 @@ package org.fest.assertions;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.List;
 
 import static java.lang.String.format;
-import static org.fest.assertions.FileContentComparator.LineDiff.lineDiff;
+import static org.fest.assertions.FileContentComparator.LineDiff.comparisonStopped;
+import static org.fest.assertions.FileContentComparator.LineDiff.differentBytes;
+import static org.fest.assertions.FileContentOptions.fileContentOptions;
+import static org.fest.assertions.MyersDiff.MAX_EDIT_DISTANCE;
 import static org.fest.util.Closeables.closeQuietly;
 import static org.fest.util.Lists.newArrayList;
 import static org.fest.util.Objects.*;
@@ -34,69 +42,239 @@ import static org.fest.util.Strings.quote;
  * @author Yvonne Wang
  */
 class FileContentComparator {
-  private static final String EOF = "EOF";
+  static final int MAX_LINE_DIFFS = 100;
+
+  private static final LineDiff[] NO_DIFFS = new LineDiff[0];
+  private static final int CHUNK_SIZE = 256 * 1024;
 
   /*
    * Verifies that the given files have the same content. Adapted from <a
    * href="http://junit-addons.sourceforge.net/junitx/framework/FileAssert.html" target="_blank">FileAssert</a> (from <a
    * href="http://sourceforge.net/projects/junit-addons">JUnit-addons</a>.)
+   *
+   * At most MAX_LINE_DIFFS differences are reported: if there are more, MAX_LINE_DIFFS + 1 are returned, so callers
+   * can tell whether the comparison stopped early. A LineDiff with a null expected line is a line in the actual file
+   * that is not in the expected one, and one with a null actual line is a line missing from the actual file. A LineDiff
+   * with neither line, always the last one, says that the files were too long after their first different line to be
+   * compared any further. A LineDiff with a byte offset says that the files have different bytes and at least one of
+   * them cannot be decoded into lines; it is always the only one.
    */
   @Nonnull LineDiff[] compareContents(@Nonnull File actual, @Nonnull File expected) throws IOException {
+    return compareContents(actual, expected, fileContentOptions(), null);
+  }
+
+  /*
+   * Verifies that the given files have the same content, reading and comparing their lines using the given options.
+   * Files with the same bytes are equal whatever the options are, so lines are only compared if the bytes are not the
+   * same. Bytes that cannot be decoded using the charset in the options are not replaced: files with different bytes
+   * that cannot be decoded are reported as different at their first different byte. If a cache is given, the digest of the actual file is compared with the digest of the expected one, read from
+   * the cache, instead of comparing the bytes of both files.
+   */
+  @Nonnull LineDiff[] compareContents(@Nonnull File actual, @Nonnull File expected,
+                                      @Nonnull FileContentOptions options,
+                                      @Nullable FileDigestCache expectedDigests) throws IOException {
+    if (expectedDigests == null ? haveSameBytes(actual, expected) : haveSameDigest(actual, expected, expectedDigests)) {
+      return NO_DIFFS;
+    }
+    return compareLines(actual, expected, options);
+  }
+
+  private boolean haveSameDigest(@Nonnull File actual, @Nonnull File expected,
+                                 @Nonnull FileDigestCache expectedDigests) throws IOException {
+    return actual.length() == expected.length()
+        && Arrays.equals(FileDigestCache.digest(actual), expectedDigests.digestOf(expected));
+  }
+
+  private @Nonnull LineDiff[] compareLines(@Nonnull File actual, @Nonnull File expected,
+                                           @Nonnull FileContentOptions options) throws IOException {
     InputStream ais = null;
     InputStream eis = null;
     try {
       ais = new FileInputStream(actual);
       eis = new FileInputStream(expected);
-      List<LineDiff> diffs = verifyEqualContent(readerFor(ais), readerFor(eis));
+      Charset charset = options.charset();
+      List<LineDiff> diffs = verifyEqualContent(readerFor(ais, charset), readerFor(eis, charset), options);
       return diffs.toArray(new LineDiff[diffs.size()]);
+    } catch (CharacterCodingException e) {
+      return new LineDiff[]{differentBytes(firstDifferentByte(actual, expected))};
     } finally {
       closeQuietly(eis);
       closeQuietly(ais);
     }
   }
 
-  private @Nonnull LineNumberReader readerFor(@Nonnull InputStream inputStream) {
-    return new LineNumberReader(new BufferedReader(new InputStreamReader(inputStream)));
+  private static long firstDifferentByte(@Nonnull File actual, @Nonnull File expected) throws IOException {
+    InputStream ais = null;
+    InputStream eis = null;
+    try {
+      ais = new BufferedInputStream(new FileInputStream(actual));
+      eis = new BufferedInputStream(new FileInputStream(expected));
+      long offset = 0;
+      while (true) {
+        int actualByte = ais.read();
+        int expectedByte = eis.read();
+        if (actualByte != expectedByte || actualByte < 0) {
+          return offset;
+        }
+        offset++;
+      }
+    } finally {
+      closeQuietly(eis);
+      closeQuietly(ais);
+    }
+  }
+
+  /*
+   * Compares the bytes of the given files, in large chunks read through their channels. Files with the same bytes have
+   * the same lines, so decoding and comparing lines is only needed when this method returns false.
+   */
+  boolean haveSameBytes(@Nonnull File actual, @Nonnull File expected) throws IOException {
+    if (actual.length() != expected.length()) {
+      return false;
+    }
+    FileInputStream ais = null;
+    FileInputStream eis = null;
+    try {
+      ais = new FileInputStream(actual);
+      eis = new FileInputStream(expected);
+      return haveSameBytes(ais.getChannel(), eis.getChannel());
+    } finally {
+      closeQuietly(eis);
+      closeQuietly(ais);
+    }
   }
 
-  private @Nonnull List<LineDiff> verifyEqualContent(
-      @Nonnull LineNumberReader actual, @Nonnull LineNumberReader expected) throws IOException {
-    List<LineDiff> diffs = newArrayList();
+  private boolean haveSameBytes(@Nonnull FileChannel actual, @Nonnull FileChannel expected) throws IOException {
+    ByteBuffer actualChunk = ByteBuffer.allocate(CHUNK_SIZE);
+    ByteBuffer expectedChunk = ByteBuffer.allocate(CHUNK_SIZE);
     while (true) {
-      if (!expected.ready() && !actual.ready()) {
-        return diffs;
+      int actualCount = fill(actual, actualChunk);
+      int expectedCount = fill(expected, expectedChunk);
+      if (actualCount != expectedCount || !actualChunk.equals(expectedChunk)) {
+        return false;
+      }
+      if (actualCount < CHUNK_SIZE) {
+        return true;
       }
-      int lineNumber = expected.getLineNumber();
-      String actualLine = actual.readLine();
-      String expectedLine = expected.readLine();
-      if (areEqual(actualLine, expectedLine)) {
-        continue;
+    }
+  }
+
+  private int fill(@Nonnull FileChannel channel, @Nonnull ByteBuffer chunk) throws IOException {
+    chunk.clear();
+    while (chunk.hasRemaining()) {
+      if (channel.read(chunk) < 0) {
+        break;
       }
-      diffs.add(lineDiff(lineNumber, actualLine, expectedLine));
-      if (!actual.ready() && expected.ready()) {
-        diffs.add(lineDiff(lineNumber, EOF, expectedLine));
-        return diffs;
+    }
+    chunk.flip();
+    return chunk.remaining();
+  }
+
+  /*
+   * The reader uses a new decoder, which reports malformed and unmappable bytes instead of replacing them: replaced bytes
+   * could make files with different bytes read as the same lines.
+   */
+  private @Nonnull BufferedReader readerFor(@Nonnull InputStream inputStream, @Nonnull Charset charset) {
+    return new BufferedReader(new InputStreamReader(inputStream, charset.newDecoder()));
+  }
+
+  /*
+   * Lines are read in lockstep until the first different one, so equal leading lines are never kept in memory. From
+   * there, at most MAX_EDIT_DISTANCE lines of each file (the most MyersDiff can use) are read and compared with
+   * MyersDiff. If both files end within those lines, the equal trailing lines are left out of the comparison; if not,
+   * no more lines are read and a LineDiff saying where the comparison stopped is added. The given options are applied
+   * to each line as soon as it is read.
+   */
+  private @Nonnull List<LineDiff> verifyEqualContent(@Nonnull BufferedReader actual, @Nonnull BufferedReader expected,
+                                                     @Nonnull FileContentOptions options) throws IOException {
+    int lineNumber = 0;
+    while (true) {
+      String actualLine = options.normalize(actual.readLine());
+      String expectedLine = options.normalize(expected.readLine());
+      if (actualLine == null && expectedLine == null) {
+        return newArrayList();
       }
-      if (actual.ready() && !expected.ready()) {
-        diffs.add(lineDiff(lineNumber, actualLine, EOF));
+      if (!areEqual(actualLine, expectedLine)) {
+        List<String> actualLines = nextLines(actualLine, actual, options);
+        List<String> expectedLines = nextLines(expectedLine, expected, options);
+        if (!hasMoreLines(actual, actualLines) && !hasMoreLines(expected, expectedLines)) {
+          removeEqualTrailingLines(actualLines, expectedLines);
+          return new MyersDiff(actualLines, expectedLines, lineNumber).diffs(MAX_EDIT_DISTANCE, MAX_LINE_DIFFS + 1);
+        }
+        MyersDiff diff = new MyersDiff(actualLines, expectedLines, lineNumber);
+        boolean oneFileEnded = actualLines.isEmpty() || expectedLines.isEmpty();
+        List<LineDiff> diffs = oneFileEnded ? diff.diffs(MAX_EDIT_DISTANCE, MAX_LINE_DIFFS + 1)
+            : diff.diffsOfFirstLines(MAX_EDIT_DISTANCE, MAX_LINE_DIFFS + 1);
+        if (diffs.size() <= MAX_LINE_DIFFS) {
+          diffs.add(comparisonStopped(lineNumber + actualLines.size()));
+        }
         return diffs;
       }
+      lineNumber++;
     }
   }
 
+  private static @Nonnull List<String> nextLines(@Nullable String firstLine, @Nonnull BufferedReader reader,
+                                                 @Nonnull FileContentOptions options) throws IOException {
+    List<String> lines = newArrayList();
+    String line = firstLine;
+    while (line != null) {
+      lines.add(line);
+      if (lines.size() == MAX_EDIT_DISTANCE) {
+        break;
+      }
+      line = options.normalize(reader.readLine());
+    }
+    return lines;
+  }
+
+  private static boolean hasMoreLines(@Nonnull BufferedReader reader, @Nonnull List<String> linesRead)
+      throws IOException {
+    return linesRead.size() == MAX_EDIT_DISTANCE && reader.readLine() != null;
+  }
+
+  private static void removeEqualTrailingLines(@Nonnull List<String> actual, @Nonnull List<String> expected) {
+    int a = actual.size();
+    int e = expected.size();
+    while (a > 0 && e > 0 && actual.get(a - 1).equals(expected.get(e - 1))) {
+      a--;
+      e--;
+    }
+    actual.subList(a, actual.size()).clear();
+    expected.subList(e, expected.size()).clear();
+  }
+
   static class LineDiff {
     final int lineNumber;
     final String actual;
     final String expected;
+    final long byteOffset;
 
-    private LineDiff(int lineNumber, @Nullable String actual, @Nullable String expected) {
+    private LineDiff(int lineNumber, @Nullable String actual, @Nullable String expected, long byteOffset) {
       this.lineNumber = lineNumber;
       this.actual = actual;
       this.expected = expected;
+      this.byteOffset = byteOffset;
     }
 
     static LineDiff lineDiff(int lineNumber, @Nullable String actual, @Nullable String expected) {
-      return new LineDiff(lineNumber, actual, expected);
+      return new LineDiff(lineNumber, actual, expected, -1);
+    }
+
+    static LineDiff comparisonStopped(int lineNumber) {
+      return new LineDiff(lineNumber, null, null, -1);
+    }
+
+    static LineDiff differentBytes(long byteOffset) {
+      return new LineDiff(0, null, null, byteOffset);
+    }
+
+    boolean isComparisonStopped() {
+      return actual == null && expected == null && !isDifferentBytes();
+    }
+
+    boolean isDifferentBytes() {
+      return byteOffset >= 0;
     }
 
     @Override
@@ -106,6 +284,7 @@ class FileContentComparator {
       result = prime * result + hashCodeFor(actual);
       result = prime * result + hashCodeFor(expected);
       result = prime * result + lineNumber;
+      result = prime * result + (int) (byteOffset ^ (byteOffset >>> 32));
       return result;
     }
 
@@ -127,11 +306,14 @@ class FileContentComparator {
       if (!areEqual(expected, other.expected)) {
         return false;
       }
-      return lineNumber == other.lineNumber;
+      return lineNumber == other.lineNumber && byteOffset == other.byteOffset;
     }
 
     @Override
     public String toString() {
+      if (isDifferentBytes()) {
+        return format("LineDiff [byteOffset=%d]", byteOffset);
+      }
       return format("LineDiff [actual=%s, expected=%s, lineNumber=%d]", quote(actual), quote(expected), lineNumber);
     }
   }
@@ -0,0 +1,143 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.charset.Charset;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Options used to compare the contents of files, line by line, in {@link FileAssert#hasSameContentAs(java.io.File,
+ * FileContentOptions)}. Lines can end with a line feed, a carriage return or both, so differences in line endings are
+ * always ignored.
+ * <p/>
+ * Options are applied to each line as it is read, and lines are reported with the options applied in failure messages.
+ * Example:
+ * <pre>
+ * assertThat(actual).hasSameContentAs(expected, fileContentOptions().withCharset(UTF_8).ignoringTrailingWhitespace());
+ * </pre>
+ *
+ * @since 1.5
+ */
+public final class FileContentOptions {
+  private static final FileContentOptions DEFAULT = new FileContentOptions(Charset.defaultCharset(), false, false);
+
+  private final Charset charset;
+  private final boolean ignoreTrailingWhitespace;
+  private final boolean ignoreWhitespaceAmount;
+
+  private FileContentOptions(@Nonnull Charset charset, boolean ignoreTrailingWhitespace,
+                             boolean ignoreWhitespaceAmount) {
+    this.charset = charset;
+    this.ignoreTrailingWhitespace = ignoreTrailingWhitespace;
+    this.ignoreWhitespaceAmount = ignoreWhitespaceAmount;
+  }
+
+  /**
+   * Returns the default options: files are read using the platform's default charset and lines are compared as they
+   * are.
+   *
+   * @return the default options.
+   */
+  public static @Nonnull FileContentOptions fileContentOptions() {
+    return DEFAULT;
+  }
+
+  /**
+   * Returns a copy of these options that reads files using the given charset.
+   *
+   * @param newCharset the charset to use.
+   * @return the created {@code FileContentOptions}.
+   * @throws NullPointerException if the given charset is {@code null}.
+   */
+  public @Nonnull FileContentOptions withCharset(@Nonnull Charset newCharset) {
+    return new FileContentOptions(checkNotNull(newCharset), ignoreTrailingWhitespace, ignoreWhitespaceAmount);
+  }
+
+  /**
+   * Returns a copy of these options that ignores whitespace at the end of lines.
+   *
+   * @return the created {@code FileContentOptions}.
+   */
+  public @Nonnull FileContentOptions ignoringTrailingWhitespace() {
+    return new FileContentOptions(charset, true, ignoreWhitespaceAmount);
+  }
+
+  /**
+   * Returns a copy of these options that ignores changes in the amount of whitespace: consecutive whitespace
+   * characters are compared as a single space, and whitespace at the end of lines is ignored.
+   *
+   * @return the created {@code FileContentOptions}.
+   */
+  public @Nonnull FileContentOptions ignoringWhitespaceAmount() {
+    return new FileContentOptions(charset, true, true);
+  }
+
+  /**
+   * Returns the charset used to read files.
+   *
+   * @return the charset used to read files.
+   */
+  public @Nonnull Charset charset() {
+    return charset;
+  }
+
+  /**
+   * Applies these options to the given line.
+   *
+   * @param line the line, without its line terminator.
+   * @return the line to compare.
+   */
+  @Nullable String normalize(@Nullable String line) {
+    if (line == null) {
+      return null;
+    }
+    if (ignoreWhitespaceAmount) {
+      return collapseWhitespace(line);
+    }
+    if (ignoreTrailingWhitespace) {
+      return removeTrailingWhitespace(line);
+    }
+    return line;
+  }
+
+  private static @Nonnull String removeTrailingWhitespace(@Nonnull String line) {
+    int end = line.length();
+    while (end > 0 && Character.isWhitespace(line.charAt(end - 1))) {
+      end--;
+    }
+    return line.substring(0, end);
+  }
+
+  private static @Nonnull String collapseWhitespace(@Nonnull String line) {
+    String trimmed = removeTrailingWhitespace(line);
+    StringBuilder b = null;
+    boolean previousIsWhitespace = false;
+    for (int i = 0; i < trimmed.length(); i++) {
+      char c = trimmed.charAt(i);
+      boolean whitespace = Character.isWhitespace(c);
+      if (whitespace && (previousIsWhitespace || c != ' ') && b == null) {
+        b = new StringBuilder(trimmed.length()).append(trimmed, 0, i);
+      }
+      if (b != null && !(whitespace && previousIsWhitespace)) {
+        b.append(whitespace ? ' ' : c);
+      }
+      previousIsWhitespace = whitespace;
+    }
+    return b == null ? trimmed : b.toString();
+  }
+}
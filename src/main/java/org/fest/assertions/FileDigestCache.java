@@ -0,0 +1,125 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.fest.util.Closeables.closeQuietly;
+
+/**
+ * Cache of the digests of the contents of files, shared by all the {@link FileAssert}s in the JVM. A cached digest is
+ * reused as long as the path, size and last modification time of the file do not change. Only the digests of the most
+ * recently used files are kept.
+ *
+ * @since 1.5
+ */
+class FileDigestCache {
+  private static final String ALGORITHM = "SHA-1";
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_ENTRIES = 1024;
+
+  private static final FileDigestCache INSTANCE = new FileDigestCache(MAX_ENTRIES);
+
+  private final Map<String, Entry> entries;
+
+  static @Nonnull FileDigestCache instance() {
+    return INSTANCE;
+  }
+
+  FileDigestCache(final int maxEntries) {
+    entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  /**
+   * Returns the digest of the contents of the given file, computing it only if it is not cached or if the file changed
+   * since it was cached.
+   *
+   * @param file the given file.
+   * @return the digest of the contents of the given file.
+   * @throws IOException if any I/O error occurs while reading the file.
+   */
+  @Nonnull byte[] digestOf(@Nonnull File file) throws IOException {
+    String path = file.getAbsolutePath();
+    long size = file.length();
+    long lastModified = file.lastModified();
+    synchronized (entries) {
+      Entry entry = entries.get(path);
+      if (entry != null && entry.size == size && entry.lastModified == lastModified) {
+        return entry.digest;
+      }
+    }
+    byte[] digest = digest(file);
+    synchronized (entries) {
+      entries.put(path, new Entry(size, lastModified, digest));
+    }
+    return digest;
+  }
+
+  /**
+   * Computes the digest of the contents of the given file, without caching it.
+   *
+   * @param file the given file.
+   * @return the digest of the contents of the given file.
+   * @throws IOException if any I/O error occurs while reading the file.
+   */
+  static @Nonnull byte[] digest(@Nonnull File file) throws IOException {
+    MessageDigest digest = newMessageDigest();
+    InputStream in = null;
+    try {
+      in = new FileInputStream(file);
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int count;
+      while ((count = in.read(buffer)) >= 0) {
+        digest.update(buffer, 0, count);
+      }
+      return digest.digest();
+    } finally {
+      closeQuietly(in);
+    }
+  }
+
+  private static @Nonnull MessageDigest newMessageDigest() {
+    try {
+      return MessageDigest.getInstance(ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(ALGORITHM + " is not supported", e);
+    }
+  }
+
+  private static class Entry {
+    final long size;
+    final long lastModified;
+    final byte[] digest;
+
+    Entry(long size, long lastModified, @Nonnull byte[] digest) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.digest = digest;
+    }
+  }
+}
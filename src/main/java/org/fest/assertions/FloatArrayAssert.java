@@ -18,7 +18,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Arrays;
 
-import static org.fest.assertions.ArrayInspection.copy;
 import static org.fest.assertions.ErrorMessages.unexpectedEqual;
 import static org.fest.assertions.ErrorMessages.unexpectedNotEqual;
 
@@ -50,7 +49,7 @@ public class FloatArrayAssert extends ArrayAssert<FloatArrayAssert, float[]> {
    * @throws AssertionError       if the actual {@code float} array does not contain the given values.
    */
   public @Nonnull FloatArrayAssert contains(@Nonnull float... values) {
-    assertContains(copy(values));
+    assertContains(PrimitiveArray.of(values));
     return this;
   }
 
@@ -65,7 +64,7 @@ public class FloatArrayAssert extends ArrayAssert<FloatArrayAssert, float[]> {
    *                              {@code float} array contains elements other than the ones specified.
    */
   public @Nonnull FloatArrayAssert containsOnly(@Nonnull float... values) {
-    assertContainsOnly(copy(values));
+    assertContainsOnly(PrimitiveArray.of(values));
     return this;
   }
 
@@ -78,7 +77,7 @@ public class FloatArrayAssert extends ArrayAssert<FloatArrayAssert, float[]> {
    * @throws NullPointerException if the given {@code float} array is {@code null}.
    */
   public @Nonnull FloatArrayAssert excludes(@Nonnull float... values) {
-    assertExcludes(copy(values));
+    assertExcludes(PrimitiveArray.of(values));
     return this;
   }
 
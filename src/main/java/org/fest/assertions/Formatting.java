@@ -18,10 +18,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.IllegalFormatException;
 
+import static org.fest.assertions.Representation.currentRepresentation;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Strings.concat;
 import static org.fest.util.Strings.isNullOrEmpty;
-import static org.fest.util.ToString.toStringOf;
 
 /**
  * Utility methods for formatting values.
@@ -88,7 +88,8 @@ public final class Formatting {
   /**
    * Returns the {@code String} representation of the given object in between brackets ("<" and ">"). This method has
    * special support for arrays, {@code Class<?>}, {@code Collection}s, {@code Map}s, {@code File}s and
-   * {@code Dimension}s. For any other types, this method simply calls its {@code toString} implementation.
+   * {@code Dimension}s. For any other types, this method simply calls its {@code toString} implementation. The
+   * representation is bounded as specified by the current {@link Representation}.
    *
    * @param o the given object.
    * @return the {@code String} representation of the given object in between brackets.
@@ -97,6 +98,10 @@ public final class Formatting {
     return doBracketAround(toStringOf(o));
   }
 
+  static @Nullable String toStringOf(@Nullable Object o) {
+    return currentRepresentation().toStringOf(o);
+  }
+
   private static @Nonnull String doBracketAround(@Nullable String s) {
     return String.format("<%s>", s);
   }
@@ -107,7 +112,8 @@ public final class Formatting {
    * @param format a format {@code String}.
    * @param args   Arguments referenced by the format specifiers in the format {@code String}. If there are more
    *               arguments than format specifiers, the extra arguments are ignored. The number of arguments is
-   *               variable and may be zero.
+   *               variable and may be zero. Arguments are represented as specified by the current
+   *               {@link Representation}.
    * @return A formatted {@code String}.
    * @throws IllegalFormatException If a format string contains an illegal syntax, a format specifier that is
    *                                incompatible with the given arguments, insufficient arguments given the format
@@ -57,6 +57,9 @@ public abstract class GenericAssert<S, A> extends Assert {
    * @throws AssertionError if the actual value is not {@code null}.
    */
   public final void isNull() {
+    if (actual == null) {
+      return;
+    }
     failIfNotNull(customErrorMessage(), rawDescription(), actual);
   }
 
@@ -227,6 +230,9 @@ public abstract class GenericAssert<S, A> extends Assert {
    * @throws AssertionError if the actual value is not equal to the given one.
    */
   public @Nonnull S isEqualTo(@Nullable A expected) {
+    if (areEqual(actual, expected)) {
+      return myself();
+    }
     failIfNotEqual(customErrorMessage(), rawDescription(), actual, expected);
     return myself();
   }
@@ -239,6 +245,9 @@ public abstract class GenericAssert<S, A> extends Assert {
    * @throws AssertionError if the actual value is equal to the given one.
    */
   public @Nonnull S isNotEqualTo(@Nullable A other) {
+    if (!areEqual(actual, other)) {
+      return myself();
+    }
     failIfEqual(customErrorMessage(), rawDescription(), actual, other);
     return myself();
   }
@@ -250,6 +259,9 @@ public abstract class GenericAssert<S, A> extends Assert {
    * @throws AssertionError if the actual value is {@code null}.
    */
   public final @Nonnull S isNotNull() {
+    if (actual != null) {
+      return myself();
+    }
     failIfActualIsNull(customErrorMessage(), rawDescription(), actual);
     return myself();
   }
@@ -262,6 +274,9 @@ public abstract class GenericAssert<S, A> extends Assert {
    * @throws AssertionError if the actual value is not the same as the given one.
    */
   public final @Nonnull S isSameAs(@Nullable A expected) {
+    if (actual == expected) {
+      return myself();
+    }
     failIfNotSame(customErrorMessage(), rawDescription(), actual, expected);
     return myself();
   }
@@ -274,6 +289,9 @@ public abstract class GenericAssert<S, A> extends Assert {
    * @throws AssertionError if the actual value is the same as the given one.
    */
   public final @Nonnull S isNotSameAs(@Nullable A other) {
+    if (actual != other) {
+      return myself();
+    }
     failIfSame(customErrorMessage(), rawDescription(), actual, other);
     return myself();
   }
@@ -372,6 +390,26 @@ public abstract class GenericAssert<S, A> extends Assert {
     return myself();
   }
 
+  /**
+   * Replaces the default message displayed in case of a failure with the value of the given {@code Description}. The
+   * value is only obtained if an assertion fails, so building an expensive message costs nothing while assertions pass:
+   * <pre>
+   * assertThat(response).overridingErrorMessageLazily(new LazyDescription() {
+   *   protected String computeValue() {
+   *     return "unexpected response to " + request.dump();
+   *   }
+   * }).isEqualTo(expected);
+   * </pre>
+   *
+   * @param message the given error message, which will replace the default one.
+   * @return this assertion.
+   * @since 1.5
+   */
+  public @Nonnull S overridingErrorMessageLazily(@Nullable Description message) {
+    replaceDefaultErrorMessagesWith(message);
+    return myself();
+  }
+
   protected final @Nonnull S myself() {
     return checkNotNull(myself);
   }
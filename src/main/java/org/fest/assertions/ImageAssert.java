@@ -18,6 +18,7 @@ import org.fest.util.VisibleForTesting;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
@@ -45,6 +46,12 @@ public class ImageAssert extends GenericAssert<ImageAssert, BufferedImage> {
   private static final Threshold ZERO_THRESHOLD = threshold(0);
   private static ImageReader imageReader = new ImageReader();
 
+  private boolean compareInParallel;
+  private int blockSize;
+  private boolean reportAllDifferences;
+  private double mismatchTolerance;
+  private File diffImageFile;
+
   /**
    * Creates a new {@link ImageAssert}.
    *
@@ -84,6 +91,92 @@ public class ImageAssert extends GenericAssert<ImageAssert, BufferedImage> {
     imageReader = newImageReader;
   }
 
+  /**
+   * Compares the pixels of the actual image and the expected one in parallel, in {@link #isEqualTo(BufferedImage)} and
+   * {@link #isEqualTo(BufferedImage, Threshold)}. The images are split in bands of rows, compared in a pool of
+   * threads shared by all assertions. This is only worth doing for large images. Failures still report the first
+   * different pixel, scanning the images row by row. If {@link #comparingBlockAverages(int)} was called, the bands are
+   * made of rows of blocks, and the blocks are compared in parallel.
+   *
+   * @return this assertion object.
+   * @since 1.5
+   */
+  public @Nonnull ImageAssert usingParallelComparison() {
+    compareInParallel = true;
+    return this;
+  }
+
+  /**
+   * Compares the average colors of square blocks of pixels, instead of single pixels, in
+   * {@link #isEqualTo(BufferedImage)} and {@link #isEqualTo(BufferedImage, Threshold)}. Two images are equal if, for
+   * each block, the difference between the averaged RGB values is less than or equal to the threshold. Only the pixels
+   * in the first different block are compared one by one, to report the first different pixel in it. This makes the
+   * comparison tolerant to noise and dithering, while still catching localized differences.
+   * <p/>
+   * The blocks are compared in parallel if {@link #usingParallelComparison()} was called. This comparison is not used if
+   * {@link #reportingAllDifferences()} was called.
+   *
+   * @param blockSize the width and height of the blocks, in pixels.
+   * @return this assertion object.
+   * @throws IllegalArgumentException if the given block size is less than one.
+   * @since 1.5
+   */
+  public @Nonnull ImageAssert comparingBlockAverages(int blockSize) {
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("The size of the blocks should be greater than zero");
+    }
+    this.blockSize = blockSize;
+    return this;
+  }
+
+  /**
+   * Compares all the pixels of the actual image and the expected one in {@link #isEqualTo(BufferedImage)} and
+   * {@link #isEqualTo(BufferedImage, Threshold)}, instead of stopping at the first different pixel. Failures report,
+   * besides the first different pixel, how many pixels are different, the maximum difference in a color component and
+   * the bounding box of all the different pixels. The images are compared in a single pass, even if
+   * {@link #usingParallelComparison()} was called.
+   *
+   * @return this assertion object.
+   * @since 1.5
+   */
+  public @Nonnull ImageAssert reportingAllDifferences() {
+    reportAllDifferences = true;
+    return this;
+  }
+
+  /**
+   * Allows the actual image to be considered equal to the expected one when only a fraction of their pixels are
+   * different, in {@link #isEqualTo(BufferedImage)} and {@link #isEqualTo(BufferedImage, Threshold)}. This implies
+   * {@link #reportingAllDifferences()}.
+   *
+   * @param maxMismatchRatio the maximum ratio of different pixels to all pixels, from 0 to 1.
+   * @return this assertion object.
+   * @throws IllegalArgumentException if the given ratio is not between 0 and 1.
+   * @since 1.5
+   */
+  public @Nonnull ImageAssert withMismatchTolerance(double maxMismatchRatio) {
+    if (!(maxMismatchRatio >= 0 && maxMismatchRatio <= 1)) {
+      throw new IllegalArgumentException("The mismatch tolerance should be between 0 and 1");
+    }
+    mismatchTolerance = maxMismatchRatio;
+    return reportingAllDifferences();
+  }
+
+  /**
+   * Writes a PNG image to the given file when {@link #isEqualTo(BufferedImage)} or
+   * {@link #isEqualTo(BufferedImage, Threshold)} fail because of different pixels. The image is a faded copy of the
+   * actual image, with the different pixels in red. This implies {@link #reportingAllDifferences()}.
+   *
+   * @param file the file to write the image to. Missing parent directories are created.
+   * @return this assertion object.
+   * @throws NullPointerException if the given file is {@code null}.
+   * @since 1.5
+   */
+  public @Nonnull ImageAssert writingDiffImageTo(@Nonnull File file) {
+    diffImageFile = checkNotNull(file);
+    return reportingAllDifferences();
+  }
+
   /**
    * Verifies that the actual image is equal to the given one. Two images are equal if they have the same size and the
    * pixels at the same coordinates have the same color.
@@ -141,21 +234,63 @@ public class ImageAssert extends GenericAssert<ImageAssert, BufferedImage> {
   }
 
   private void failIfNotEqualColor(@Nonnull BufferedImage expected, @Nonnull Threshold threshold) {
-    int w = actual.getWidth();
-    int h = actual.getHeight();
-    for (int x = 0; x < w; x++) {
-      for (int y = 0; y < h; y++) {
-        failIfNotEqual(new RGBColor(actual.getRGB(x, y)), new RGBColor(expected.getRGB(x, y)), threshold, x, y);
-      }
+    if (reportAllDifferences) {
+      failIfDifferent(expected, threshold);
+      return;
     }
+    Point mismatch = firstMismatch(new ImageComparator(actual, expected), threshold.value());
+    if (mismatch == null) {
+      return;
+    }
+    failIfCustomMessageIsSet();
+    fail(pixelMismatch(expected, mismatch));
   }
 
-  private void failIfNotEqual(@Nonnull RGBColor a, @Nonnull RGBColor e, @Nonnull Threshold threshold, int x, int y) {
-    if (a.isEqualTo(e, threshold.value())) {
+  private @Nullable Point firstMismatch(@Nonnull ImageComparator comparator, int threshold) {
+    if (blockSize > 0) {
+      return compareInParallel ? comparator.firstMismatchInBlocksInParallel(threshold, blockSize)
+          : comparator.firstMismatchInBlocks(threshold, blockSize);
+    }
+    return compareInParallel ? comparator.firstMismatchInParallel(threshold) : comparator.firstMismatch(threshold);
+  }
+
+  private void failIfDifferent(@Nonnull BufferedImage expected, @Nonnull Threshold threshold) {
+    BufferedImage diffImage = null;
+    if (diffImageFile != null) {
+      diffImage = new BufferedImage(actual.getWidth(), actual.getHeight(), BufferedImage.TYPE_INT_RGB);
+    }
+    ImageDifference difference = new ImageComparator(actual, expected).differences(threshold.value(), diffImage);
+    if (difference.mismatchCount == 0 || difference.mismatchRatio() <= mismatchTolerance) {
       return;
     }
     failIfCustomMessageIsSet();
-    fail(String.format("expected:<%s> but was:<%s> at pixel [%d,%d]", a, e, x, y));
+    StringBuilder b = new StringBuilder();
+    b.append(pixelMismatch(expected, checkNotNull(difference.firstMismatch))).append("; ").append(difference);
+    if (diffImage != null) {
+      b.append("; ").append(write(diffImage));
+    }
+    fail(b.toString());
+  }
+
+  private @Nonnull String pixelMismatch(@Nonnull BufferedImage expected, @Nonnull Point mismatch) {
+    int x = mismatch.x;
+    int y = mismatch.y;
+    RGBColor a = new RGBColor(actual.getRGB(x, y));
+    RGBColor e = new RGBColor(expected.getRGB(x, y));
+    return String.format("expected:<%s> but was:<%s> at pixel [%d,%d]", a, e, x, y);
+  }
+
+  private @Nonnull String write(@Nonnull BufferedImage diffImage) {
+    File parent = diffImageFile.getAbsoluteFile().getParentFile();
+    try {
+      if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+        throw new IOException(format("Unable to create directory <%s>", parent));
+      }
+      ImageIO.write(diffImage, "png", diffImageFile);
+      return format("differences written to:<%s>", diffImageFile);
+    } catch (IOException e) {
+      return format("unable to write differences to:<%s> (%s)", diffImageFile, e.getMessage());
+    }
   }
 
   /**
@@ -183,16 +318,7 @@ public class ImageAssert extends GenericAssert<ImageAssert, BufferedImage> {
   }
 
   private boolean hasEqualColor(@Nonnull BufferedImage expected) {
-    int w = actual.getWidth();
-    int h = actual.getHeight();
-    for (int x = 0; x < w; x++) {
-      for (int y = 0; y < h; y++) {
-        if (actual.getRGB(x, y) != expected.getRGB(x, y)) {
-          return false;
-        }
-      }
-    }
-    return true;
+    return new ImageComparator(actual, expected).haveEqualColor();
   }
 
   /**
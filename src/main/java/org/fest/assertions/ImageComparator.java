@@ -0,0 +1,384 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.fest.assertions.ComparisonExecutor.*;
+import static org.fest.assertions.PixelRowReader.readerFor;
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * Compares the pixels of two images of the same size. Pixels are read one row at a time and compared as {@code int}s,
+ * without creating any objects per pixel.
+ *
+ * @since 1.5
+ */
+class ImageComparator {
+  private static final int BANDS_PER_THREAD = 4;
+  private static final int DIFF_COLOR = 0xFFFF0000;
+
+  private final BufferedImage actual;
+  private final BufferedImage expected;
+
+  ImageComparator(@Nonnull BufferedImage actual, @Nonnull BufferedImage expected) {
+    this.actual = actual;
+    this.expected = expected;
+  }
+
+  /**
+   * Returns the first pixel, in row-major order, whose colors differ by more than the given threshold in any of their
+   * red, green or blue components.
+   *
+   * @param threshold the maximum difference allowed in each color component.
+   * @return the coordinates of the first different pixel, or {@code null} if all pixels are similar.
+   */
+  @Nullable Point firstMismatch(int threshold) {
+    return firstMismatch(threshold, 0, actual.getHeight());
+  }
+
+  /**
+   * Returns the first pixel, in row-major order and within the given rows, whose colors differ by more than the given
+   * threshold in any of their red, green or blue components.
+   *
+   * @param threshold the maximum difference allowed in each color component.
+   * @param fromRow   the first row to compare (inclusive.)
+   * @param toRow     the last row to compare (exclusive.)
+   * @return the coordinates of the first different pixel, or {@code null} if all pixels in the given rows are similar.
+   */
+  @Nullable Point firstMismatch(int threshold, int fromRow, int toRow) {
+    return firstMismatch(threshold, fromRow, toRow, new AtomicInteger(Integer.MAX_VALUE));
+  }
+
+  /**
+   * Returns the first pixel, in row-major order, whose colors differ by more than the given threshold in any of their
+   * red, green or blue components. The rows of the images are split in bands, which are compared in parallel in the
+   * {@link ComparisonExecutor}. A band stops as soon as a different pixel is found in it, or in a band above it. The
+   * result is always the same as the one from {@link #firstMismatch(int)}.
+   *
+   * @param threshold the maximum difference allowed in each color component.
+   * @return the coordinates of the first different pixel, or {@code null} if all pixels are similar.
+   */
+  @Nullable Point firstMismatchInParallel(final int threshold) {
+    return firstMismatchInBands(actual.getHeight(), new Band() {
+      @Override
+      public Point firstMismatch(int fromRow, int toRow, @Nonnull AtomicInteger firstMismatchRow) {
+        return ImageComparator.this.firstMismatch(threshold, fromRow, toRow, firstMismatchRow);
+      }
+    });
+  }
+
+  /*
+   * Splits the given number of rows (of pixels or of blocks) in bands, compared in parallel in the ComparisonExecutor.
+   * A band stops as soon as a different pixel is found in it, or in a band above it.
+   */
+  private @Nullable Point firstMismatchInBands(int rowCount, @Nonnull final Band band) {
+    final AtomicInteger firstMismatchRow = new AtomicInteger(Integer.MAX_VALUE);
+    int bandCount = min(rowCount, parallelism() * BANDS_PER_THREAD);
+    if (bandCount < 2) {
+      return band.firstMismatch(0, rowCount, firstMismatchRow);
+    }
+    ExecutorService executor = executor();
+    List<Future<Point>> bands = newArrayList();
+    for (int i = 0; i < bandCount; i++) {
+      final int fromRow = (int) ((long) rowCount * i / bandCount);
+      final int toRow = (int) ((long) rowCount * (i + 1) / bandCount);
+      bands.add(executor.submit(new Callable<Point>() {
+        @Override
+        public Point call() {
+          return band.firstMismatch(fromRow, toRow, firstMismatchRow);
+        }
+      }));
+    }
+    // a band only gives up when a band above it found a different pixel, so the first result found is the first one
+    Point mismatch = null;
+    for (Future<Point> result : bands) {
+      if (mismatch == null) {
+        mismatch = resultOf(result);
+        continue;
+      }
+      result.cancel(false);
+    }
+    return mismatch;
+  }
+
+  private interface Band {
+    /*
+     * Returns the first different pixel in the given rows, giving up once a row at or after firstMismatchRow is reached.
+     * Updates firstMismatchRow when a different pixel is found.
+     */
+    @Nullable Point firstMismatch(int fromRow, int toRow, @Nonnull AtomicInteger firstMismatchRow);
+  }
+
+  private @Nullable Point firstMismatch(int threshold, int fromRow, int toRow,
+                                        @Nonnull AtomicInteger firstMismatchRow) {
+    PixelRowReader actualRows = readerFor(actual);
+    PixelRowReader expectedRows = readerFor(expected);
+    int width = actual.getWidth();
+    int[] actualRow = new int[width];
+    int[] expectedRow = new int[width];
+    for (int y = fromRow; y < toRow && y < firstMismatchRow.get(); y++) {
+      actualRows.readRow(y, actualRow);
+      expectedRows.readRow(y, expectedRow);
+      for (int x = 0; x < width; x++) {
+        if (!areSimilar(actualRow[x], expectedRow[x], threshold)) {
+          updateFirstMismatchRow(firstMismatchRow, y);
+          return new Point(x, y);
+        }
+      }
+    }
+    return null;
+  }
+
+  private static void updateFirstMismatchRow(@Nonnull AtomicInteger firstMismatchRow, int y) {
+    while (true) {
+      int current = firstMismatchRow.get();
+      if (current <= y || firstMismatchRow.compareAndSet(current, y)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Compares the average colors of square blocks of pixels in both images, instead of comparing pixel by pixel. Blocks
+   * are compared in row-major order and, once a block whose averages differ by more than the given threshold in any of
+   * their red, green or blue components is found, only the pixels in that block are compared, to find the first
+   * different one. Differences that cancel out within a block (e.g. noise or dithering) are ignored.
+   *
+   * @param threshold the maximum difference allowed in each averaged color component.
+   * @param blockSize the width and height of the blocks, in pixels.
+   * @return the coordinates of the first different pixel in the first different block, or {@code null} if all blocks
+   *         are similar.
+   */
+  @Nullable Point firstMismatchInBlocks(int threshold, int blockSize) {
+    int blockRows = (actual.getHeight() + blockSize - 1) / blockSize;
+    return firstMismatchInBlocks(threshold, blockSize, 0, blockRows, new AtomicInteger(Integer.MAX_VALUE));
+  }
+
+  /**
+   * Compares the average colors of square blocks of pixels in both images, like
+   * {@link #firstMismatchInBlocks(int, int)}, with the rows of blocks split in bands that are compared in parallel in
+   * the {@link ComparisonExecutor}. The result is always the same as the one from
+   * {@link #firstMismatchInBlocks(int, int)}.
+   *
+   * @param threshold the maximum difference allowed in each averaged color component.
+   * @param blockSize the width and height of the blocks, in pixels.
+   * @return the coordinates of the first different pixel in the first different block, or {@code null} if all blocks
+   *         are similar.
+   */
+  @Nullable Point firstMismatchInBlocksInParallel(final int threshold, final int blockSize) {
+    int blockRows = (actual.getHeight() + blockSize - 1) / blockSize;
+    return firstMismatchInBands(blockRows, new Band() {
+      @Override
+      public Point firstMismatch(int fromBlockRow, int toBlockRow, @Nonnull AtomicInteger firstMismatchBlockRow) {
+        return firstMismatchInBlocks(threshold, blockSize, fromBlockRow, toBlockRow, firstMismatchBlockRow);
+      }
+    });
+  }
+
+  private @Nullable Point firstMismatchInBlocks(int threshold, int blockSize, int fromBlockRow, int toBlockRow,
+                                                @Nonnull AtomicInteger firstMismatchBlockRow) {
+    PixelRowReader actualRows = readerFor(actual);
+    PixelRowReader expectedRows = readerFor(expected);
+    int width = actual.getWidth();
+    int height = actual.getHeight();
+    int blockColumns = (width + blockSize - 1) / blockSize;
+    int[] actualRow = new int[width];
+    int[] expectedRow = new int[width];
+    long[] redDeltas = new long[blockColumns];
+    long[] greenDeltas = new long[blockColumns];
+    long[] blueDeltas = new long[blockColumns];
+    for (int blockRow = fromBlockRow; blockRow < toBlockRow && blockRow < firstMismatchBlockRow.get(); blockRow++) {
+      int fromRow = blockRow * blockSize;
+      int toRow = min(fromRow + blockSize, height);
+      Arrays.fill(redDeltas, 0);
+      Arrays.fill(greenDeltas, 0);
+      Arrays.fill(blueDeltas, 0);
+      for (int y = fromRow; y < toRow; y++) {
+        actualRows.readRow(y, actualRow);
+        expectedRows.readRow(y, expectedRow);
+        for (int x = 0; x < width; x++) {
+          int a = actualRow[x];
+          int e = expectedRow[x];
+          if (a == e) {
+            continue;
+          }
+          int block = x / blockSize;
+          redDeltas[block] += (a >> 16 & 0xFF) - (e >> 16 & 0xFF);
+          greenDeltas[block] += (a >> 8 & 0xFF) - (e >> 8 & 0xFF);
+          blueDeltas[block] += (a & 0xFF) - (e & 0xFF);
+        }
+      }
+      for (int block = 0; block < blockColumns; block++) {
+        int fromColumn = block * blockSize;
+        int toColumn = min(fromColumn + blockSize, width);
+        long pixelCount = (long) (toColumn - fromColumn) * (toRow - fromRow);
+        long maxDelta = (long) threshold * pixelCount;
+        boolean similar = abs(redDeltas[block]) <= maxDelta && abs(greenDeltas[block]) <= maxDelta
+            && abs(blueDeltas[block]) <= maxDelta;
+        if (!similar) {
+          updateFirstMismatchRow(firstMismatchBlockRow, blockRow);
+          return firstMismatch(threshold, new Rectangle(fromColumn, fromRow, toColumn - fromColumn, toRow - fromRow));
+        }
+      }
+    }
+    return null;
+  }
+
+  private @Nullable Point firstMismatch(int threshold, @Nonnull Rectangle block) {
+    PixelRowReader actualRows = readerFor(actual);
+    PixelRowReader expectedRows = readerFor(expected);
+    int[] actualRow = new int[actual.getWidth()];
+    int[] expectedRow = new int[actual.getWidth()];
+    for (int y = block.y; y < block.y + block.height; y++) {
+      actualRows.readRow(y, actualRow);
+      expectedRows.readRow(y, expectedRow);
+      for (int x = block.x; x < block.x + block.width; x++) {
+        if (!areSimilar(actualRow[x], expectedRow[x], threshold)) {
+          return new Point(x, y);
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Compares all the pixels in both images, counting the pixels whose colors differ by more than the given threshold in
+   * any of their red, green or blue components. Optionally, a copy of the actual image is drawn in the given diff
+   * image, with different pixels in red and similar ones faded, so the differences are easy to spot.
+   *
+   * @param threshold the maximum difference allowed in each color component.
+   * @param diffImage where to draw the differences, with the same size as the compared images. It can be {@code null}.
+   * @return the differences found.
+   */
+  @Nonnull ImageDifference differences(int threshold, @Nullable BufferedImage diffImage) {
+    PixelRowReader actualRows = readerFor(actual);
+    PixelRowReader expectedRows = readerFor(expected);
+    int width = actual.getWidth();
+    int height = actual.getHeight();
+    int[] actualRow = new int[width];
+    int[] expectedRow = new int[width];
+    int[] diffRow = diffImage == null ? null : new int[width];
+    int mismatchCount = 0;
+    int maxColorDelta = 0;
+    Point firstMismatch = null;
+    int minX = width, minY = height, maxX = -1, maxY = -1;
+    for (int y = 0; y < height; y++) {
+      actualRows.readRow(y, actualRow);
+      expectedRows.readRow(y, expectedRow);
+      for (int x = 0; x < width; x++) {
+        int delta = colorDelta(actualRow[x], expectedRow[x]);
+        boolean similar = delta <= threshold;
+        if (diffRow != null) {
+          diffRow[x] = similar ? faded(actualRow[x]) : DIFF_COLOR;
+        }
+        if (delta > maxColorDelta) {
+          maxColorDelta = delta;
+        }
+        if (similar) {
+          continue;
+        }
+        if (firstMismatch == null) {
+          firstMismatch = new Point(x, y);
+          minY = y;
+        }
+        mismatchCount++;
+        maxY = y;
+        if (x < minX) {
+          minX = x;
+        }
+        if (x > maxX) {
+          maxX = x;
+        }
+      }
+      if (diffImage != null) {
+        diffImage.setRGB(0, y, width, 1, diffRow, 0, width);
+      }
+    }
+    Rectangle bounds = firstMismatch == null ? null : new Rectangle(minX, minY, maxX - minX + 1, maxY - minY + 1);
+    return new ImageDifference(width * height, mismatchCount, maxColorDelta, firstMismatch, bounds);
+  }
+
+  private static int colorDelta(int rgb1, int rgb2) {
+    if (rgb1 == rgb2) {
+      return 0;
+    }
+    int red = abs((rgb1 >> 16 & 0xFF) - (rgb2 >> 16 & 0xFF));
+    int green = abs((rgb1 >> 8 & 0xFF) - (rgb2 >> 8 & 0xFF));
+    int blue = abs((rgb1 & 0xFF) - (rgb2 & 0xFF));
+    return max(red, max(green, blue));
+  }
+
+  private static int faded(int rgb) {
+    int gray = ((rgb >> 16 & 0xFF) + (rgb >> 8 & 0xFF) + (rgb & 0xFF)) / 3;
+    int light = 0xFF - (0xFF - gray) / 4;
+    return 0xFF000000 | light << 16 | light << 8 | light;
+  }
+
+  /**
+   * Indicates whether all the pixels in both images have exactly the same color, including the alpha component.
+   *
+   * @return {@code true} if all the pixels in both images have the same color; {@code false} otherwise.
+   */
+  boolean haveEqualColor() {
+    PixelRowReader actualRows = readerFor(actual);
+    PixelRowReader expectedRows = readerFor(expected);
+    int width = actual.getWidth();
+    int[] actualRow = new int[width];
+    int[] expectedRow = new int[width];
+    for (int y = 0; y < actual.getHeight(); y++) {
+      actualRows.readRow(y, actualRow);
+      expectedRows.readRow(y, expectedRow);
+      if (!Arrays.equals(actualRow, expectedRow)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Indicates whether the given colors, in the default RGB color model, are similar. The alpha component is ignored.
+   *
+   * @param rgb1      a color.
+   * @param rgb2      another color.
+   * @param threshold the maximum difference allowed in each color component.
+   * @return {@code true} if the red, green and blue components of both colors differ by no more than the given
+   *         threshold; {@code false} otherwise.
+   */
+  static boolean areSimilar(int rgb1, int rgb2, int threshold) {
+    if (rgb1 == rgb2) {
+      return true;
+    }
+    if (abs((rgb1 >> 16 & 0xFF) - (rgb2 >> 16 & 0xFF)) > threshold) {
+      return false;
+    }
+    if (abs((rgb1 >> 8 & 0xFF) - (rgb2 >> 8 & 0xFF)) > threshold) {
+      return false;
+    }
+    return abs((rgb1 & 0xFF) - (rgb2 & 0xFF)) <= threshold;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nullable;
+import java.awt.*;
+
+/**
+ * The differences found between the pixels of two images of the same size, in a single pass over both images.
+ *
+ * @since 1.5
+ */
+final class ImageDifference {
+  final int pixelCount;
+  final int mismatchCount;
+  final int maxColorDelta;
+  final Point firstMismatch;
+  final Rectangle bounds;
+
+  ImageDifference(int pixelCount, int mismatchCount, int maxColorDelta, @Nullable Point firstMismatch,
+                  @Nullable Rectangle bounds) {
+    this.pixelCount = pixelCount;
+    this.mismatchCount = mismatchCount;
+    this.maxColorDelta = maxColorDelta;
+    this.firstMismatch = firstMismatch;
+    this.bounds = bounds;
+  }
+
+  /**
+   * Returns the ratio of different pixels to all the pixels in the images.
+   *
+   * @return a number between 0 and 1.
+   */
+  double mismatchRatio() {
+    return pixelCount == 0 ? 0 : (double) mismatchCount / pixelCount;
+  }
+
+  @Override
+  public String toString() {
+    if (bounds == null) {
+      return "no different pixels";
+    }
+    String format = "%d of %d pixels differ, max color difference:<%d>, differences within [x=%d, y=%d, w=%d, h=%d]";
+    return String.format(format, mismatchCount, pixelCount, maxColorDelta, bounds.x, bounds.y, bounds.width,
+        bounds.height);
+  }
+}
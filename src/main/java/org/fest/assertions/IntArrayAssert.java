@@ -18,7 +18,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Arrays;
 
-import static org.fest.assertions.ArrayInspection.copy;
 import static org.fest.assertions.ErrorMessages.unexpectedEqual;
 import static org.fest.assertions.ErrorMessages.unexpectedNotEqual;
 
@@ -50,7 +49,7 @@ public class IntArrayAssert extends ArrayAssert<IntArrayAssert, int[]> {
    * @throws AssertionError       if the actual {@code int} array does not contain the given values.
    */
   public @Nonnull IntArrayAssert contains(@Nonnull int... values) {
-    assertContains(copy(values));
+    assertContains(PrimitiveArray.of(values));
     return this;
   }
 
@@ -65,7 +64,7 @@ public class IntArrayAssert extends ArrayAssert<IntArrayAssert, int[]> {
    *                              {@code int} array contains elements other than the ones specified.
    */
   public @Nonnull IntArrayAssert containsOnly(@Nonnull int... values) {
-    assertContainsOnly(copy(values));
+    assertContainsOnly(PrimitiveArray.of(values));
     return this;
   }
 
@@ -79,7 +78,7 @@ public class IntArrayAssert extends ArrayAssert<IntArrayAssert, int[]> {
    * @throws AssertionError       if the actual {@code int} array contains any of the given values.
    */
   public @Nonnull IntArrayAssert excludes(@Nonnull int... values) {
-    assertExcludes(copy(values));
+    assertExcludes(PrimitiveArray.of(values));
     return this;
   }
 
@@ -18,11 +18,14 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import static java.util.Arrays.asList;
 import static org.fest.assertions.Collections.found;
 import static org.fest.assertions.Collections.notFound;
 import static org.fest.assertions.Formatting.format;
+import static org.fest.assertions.Formatting.inBrackets;
 import static org.fest.util.Collections.duplicatesFrom;
 import static org.fest.util.Lists.emptyList;
 import static org.fest.util.Lists.newArrayList;
@@ -95,6 +98,42 @@ public abstract class ItemGroupAssert<S, A> extends GroupAssert<S, A> {
     throw failureIfUnexpectedElementsFound(copy);
   }
 
+  /**
+   * Verifies that the given elements of the actual group of objects are the given objects, in any order. Unlike
+   * {@link #assertContainsOnly(Object...)}, duplicates are taken into account: each object must be in the actual group
+   * as many times as it is given.
+   *
+   * @param elements the elements of the actual group of objects.
+   * @param objects  the objects to look for.
+   * @throws AssertionError if the actual group of objects does not contain the given objects as many times as they are
+   *                        given, or if it contains other objects.
+   */
+  final void assertContainsExactlyInAnyOrder(@Nonnull Collection<?> elements, @Nonnull Object[] objects) {
+    ElementCounter counter = new ElementCounter(elements.size());
+    for (Object element : elements) {
+      counter.add(element, 1);
+    }
+    for (Object o : objects) {
+      counter.add(o, -1);
+    }
+    if (counter.allCountsAreZero()) {
+      return;
+    }
+    failIfCustomMessageIsSet();
+    StringBuilder b = new StringBuilder();
+    b.append(String.format("%s does not contain exactly in any order:%s", inBrackets(actual), inBrackets(objects)));
+    appendCounts(b, "unexpected", counter.positiveCounts(elements));
+    appendCounts(b, "missing", counter.negativeCounts(asList(objects)));
+    throw failure(b.toString());
+  }
+
+  private static void appendCounts(@Nonnull StringBuilder b, @Nonnull String description,
+                                   @Nonnull Map<Object, Integer> counts) {
+    if (!counts.isEmpty()) {
+      b.append(String.format(", %s (with counts):%s", description, inBrackets(counts)));
+    }
+  }
+
   /**
    * @return the actual value as a {@code Set}.
    */
@@ -115,12 +154,12 @@ public abstract class ItemGroupAssert<S, A> extends GroupAssert<S, A> {
     return notFound;
   }
 
-  private @Nonnull AssertionError failureIfExpectedElementsNotFound(@Nonnull Collection<Object> notFound) {
+  final @Nonnull AssertionError failureIfExpectedElementsNotFound(@Nonnull Collection<Object> notFound) {
     failIfCustomMessageIsSet();
     return failure(format("<%s> does not contain element(s):<%s>", actual, notFound));
   }
 
-  private @Nonnull AssertionError failureIfUnexpectedElementsFound(@Nonnull Collection<Object> unexpected) {
+  final @Nonnull AssertionError failureIfUnexpectedElementsFound(@Nonnull Collection<Object> unexpected) {
     failIfCustomMessageIsSet();
     return failure(format("unexpected element(s):<%s> in <%s>", unexpected, actual));
   }
@@ -140,8 +179,12 @@ public abstract class ItemGroupAssert<S, A> extends GroupAssert<S, A> {
     if (found.isEmpty()) {
       return;
     }
+    throw failureIfExcludedElementsFound(found);
+  }
+
+  final @Nonnull AssertionError failureIfExcludedElementsFound(@Nonnull Collection<Object> found) {
     failIfCustomMessageIsSet();
-    throw failure(format("<%s> does not exclude element(s):<%s>", actual, found));
+    return failure(format("<%s> does not exclude element(s):<%s>", actual, found));
   }
 
   /**
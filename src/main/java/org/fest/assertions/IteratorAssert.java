@@ -22,10 +22,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
+import static java.util.Arrays.asList;
+import static org.fest.assertions.Formatting.format;
+import static org.fest.assertions.Formatting.toStringOf;
 import static org.fest.util.Lists.newArrayList;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Sets.newLinkedHashSet;
-import static org.fest.util.ToString.toStringOf;
 
 /**
  * Assertions for {@code Iterator}s.
@@ -52,6 +54,145 @@ public class IteratorAssert extends ObjectGroupAssert<IteratorAssert, Iterator<?
     return new PrettyPrintIterator(actual);
   }
 
+  /**
+   * Verifies that the actual {@code Iterator} contains the given objects, in any order. Unlike
+   * {@link #contains(Object...)}, this method does not store the elements of the actual {@code Iterator}: it reads
+   * them one at a time, and only until all the given objects have been found.
+   * <p/>
+   * Once this method reads the actual {@code Iterator}, other methods of this object that need its elements throw an
+   * {@code IllegalStateException}, and failure messages show only its first elements.
+   *
+   * @param objects the objects to look for.
+   * @return this assertion object.
+   * @throws AssertionError        if the actual {@code Iterator} is {@code null}.
+   * @throws NullPointerException  if the given array is {@code null}.
+   * @throws AssertionError        if the actual {@code Iterator} does not contain the given objects.
+   * @throws IllegalStateException if the actual {@code Iterator} was already read by another method of this object
+   *                               that does not store its elements.
+   * @since 1.5
+   */
+  public @Nonnull IteratorAssert containsWithoutStoring(@Nonnull Object... objects) {
+    isNotNull();
+    checkNotNull(objects);
+    Set<Object> notFound = newLinkedHashSet(objects);
+    Iterator<Object> elements = elementsOfActual();
+    while (!notFound.isEmpty() && elements.hasNext()) {
+      notFound.remove(elements.next());
+    }
+    if (notFound.isEmpty()) {
+      return this;
+    }
+    throw failureIfExpectedElementsNotFound(notFound);
+  }
+
+  /**
+   * Verifies that the actual {@code Iterator} does not contain the given objects. Unlike {@link #excludes(Object...)},
+   * this method does not store the elements of the actual {@code Iterator}: it reads them one at a time, and stops at
+   * the first one that is equal to any of the given objects.
+   * <p/>
+   * Once this method reads the actual {@code Iterator}, other methods of this object that need its elements throw an
+   * {@code IllegalStateException}, and failure messages show only its first elements.
+   *
+   * @param objects the objects that the actual {@code Iterator} should exclude.
+   * @return this assertion object.
+   * @throws AssertionError        if the actual {@code Iterator} is {@code null}.
+   * @throws NullPointerException  if the given array is {@code null}.
+   * @throws AssertionError        if the actual {@code Iterator} contains any of the given objects.
+   * @throws IllegalStateException if the actual {@code Iterator} was already read by another method of this object
+   *                               that does not store its elements.
+   * @since 1.5
+   */
+  public @Nonnull IteratorAssert excludesWithoutStoring(@Nonnull Object... objects) {
+    isNotNull();
+    checkNotNull(objects);
+    Set<Object> excluded = newLinkedHashSet(objects);
+    Iterator<Object> elements = elementsOfActual();
+    while (elements.hasNext()) {
+      Object element = elements.next();
+      if (excluded.contains(element)) {
+        List<Object> found = newArrayList();
+        found.add(element);
+        throw failureIfExcludedElementsFound(found);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@code Iterator} has at least the given number of elements. This method does not store
+   * the elements of the actual {@code Iterator}: it reads them one at a time, and only until it has read the given
+   * number of elements.
+   * <p/>
+   * Once this method reads the actual {@code Iterator}, other methods of this object that need its elements throw an
+   * {@code IllegalStateException}, and failure messages show only its first elements. If the given number is not
+   * greater than zero, this method passes without reading the actual {@code Iterator}.
+   *
+   * @param min the minimum number of elements expected.
+   * @return this assertion object.
+   * @throws AssertionError        if the actual {@code Iterator} is {@code null}.
+   * @throws AssertionError        if the actual {@code Iterator} has less elements than the given number.
+   * @throws IllegalStateException if the actual {@code Iterator} was already read by another method of this object
+   *                               that does not store its elements.
+   * @since 1.5
+   */
+  public @Nonnull IteratorAssert hasSizeAtLeast(int min) {
+    isNotNull();
+    if (min <= 0) {
+      return this;
+    }
+    int size = countElementsOfActual(min);
+    if (size >= min) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(format("expected size of at least:<%s> but was:<%s> for <%s>", min, size, actual));
+  }
+
+  /**
+   * Verifies that the actual {@code Iterator} has at most the given number of elements. This method does not store
+   * the elements of the actual {@code Iterator}: it reads them one at a time, and stops as soon as it has read more
+   * than the given number of elements.
+   * <p/>
+   * Once this method reads the actual {@code Iterator}, other methods of this object that need its elements throw an
+   * {@code IllegalStateException}, and failure messages show only its first elements.
+   *
+   * @param max the maximum number of elements expected.
+   * @return this assertion object.
+   * @throws IllegalArgumentException if the given number is negative.
+   * @throws AssertionError           if the actual {@code Iterator} is {@code null}.
+   * @throws AssertionError           if the actual {@code Iterator} has more elements than the given number.
+   * @throws IllegalStateException    if the actual {@code Iterator} was already read by another method of this
+   *                                  object that does not store its elements.
+   * @since 1.5
+   */
+  public @Nonnull IteratorAssert hasSizeAtMost(int max) {
+    if (max < 0) {
+      throw new IllegalArgumentException("The maximum size should not be negative");
+    }
+    isNotNull();
+    int size = countElementsOfActual(max == Integer.MAX_VALUE ? max : max + 1);
+    if (size <= max) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    throw failure(format("expected size of at most:<%s> but was at least:<%s> for <%s>", max, size, actual));
+  }
+
+  private int countElementsOfActual(int limit) {
+    Iterator<Object> elements = elementsOfActual();
+    int count = 0;
+    while (count < limit && elements.hasNext()) {
+      elements.next();
+      count++;
+    }
+    return count;
+  }
+
+  private @Nonnull Iterator<Object> elementsOfActual() {
+    PrettyPrintIterator wrapped = (PrettyPrintIterator) actual;
+    return wrapped.stream();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -59,7 +200,7 @@ public class IteratorAssert extends ObjectGroupAssert<IteratorAssert, Iterator<?
   protected @Nonnull IteratorAssert onProperty(@Nonnull String propertyName) {
     checkNotNull(propertyName);
     isNotNull();
-    List<Object> subset = PropertySupport.instance().propertyValues(propertyName, newArrayList(contentOfActual()));
+    List<Object> subset = PropertySupport.instance().propertyValues(propertyName, asList(contentOfActual()));
     return new IteratorAssert(subset.iterator());
   }
 
@@ -101,15 +242,45 @@ public class IteratorAssert extends ObjectGroupAssert<IteratorAssert, Iterator<?
 
   @VisibleForTesting
   static class PrettyPrintIterator implements Iterator<Object> {
+    private static final int SAMPLE_SIZE = 10;
+
     private final Iterator<?> wrapped;
     boolean wrappedWasConsumed;
     List<Object> wrappedContents;
     Iterator<Object> iterator;
+    boolean wrappedWasStreamed;
+    List<Object> sample;
+    int streamedCount;
 
     PrettyPrintIterator(@Nonnull Iterator<?> wrapped) {
       this.wrapped = wrapped;
     }
 
+    /**
+     * Returns the elements of the wrapped {@code Iterator} without storing them, except for the first ones, which are
+     * kept to show in {@link #toString()}. If the contents of the wrapped {@code Iterator} have already been stored,
+     * this method returns an {@code Iterator} over them.
+     *
+     * @return the elements of the wrapped {@code Iterator}.
+     * @throws IllegalStateException if the elements of the wrapped {@code Iterator} were already returned by this
+     *                               method without being stored.
+     */
+    @Nonnull Iterator<Object> stream() {
+      if (wrappedWasConsumed) {
+        return wrappedContents.iterator();
+      }
+      checkNotStreamed();
+      wrappedWasStreamed = true;
+      sample = newArrayList();
+      return new SamplingIterator();
+    }
+
+    private void checkNotStreamed() {
+      if (wrappedWasStreamed) {
+        throw new IllegalStateException("The elements of the actual Iterator have already been read");
+      }
+    }
+
     @Nonnull List<Object> contents() {
       consumeIterator();
       return wrappedContents;
@@ -137,6 +308,7 @@ public class IteratorAssert extends ObjectGroupAssert<IteratorAssert, Iterator<?
       if (wrappedWasConsumed) {
         return;
       }
+      checkNotStreamed();
       wrappedContents = newArrayList(wrapped);
       wrappedWasConsumed = true;
       iterator = wrappedContents.iterator();
@@ -155,8 +327,55 @@ public class IteratorAssert extends ObjectGroupAssert<IteratorAssert, Iterator<?
      */
     @Override
     public String toString() {
+      if (wrappedWasStreamed) {
+        return sampleToString();
+      }
       consumeIterator();
       return toStringOf(wrappedContents);
     }
+
+    private @Nonnull String sampleToString() {
+      StringBuilder b = new StringBuilder("[");
+      for (int i = 0; i < sample.size(); i++) {
+        if (i > 0) {
+          b.append(", ");
+        }
+        b.append(toStringOf(sample.get(i)));
+      }
+      if (!sampleHasAllElements()) {
+        b.append(sample.isEmpty() ? "..." : ", ...");
+      }
+      return b.append("]").toString();
+    }
+
+    /*
+     * Methods that stop reading once they have found what they look for do not ask the wrapped Iterator whether it has
+     * more elements, so it is asked here, only when a failure message needs it.
+     */
+    private boolean sampleHasAllElements() {
+      return streamedCount == sample.size() && !wrapped.hasNext();
+    }
+
+    private class SamplingIterator implements Iterator<Object> {
+      @Override
+      public boolean hasNext() {
+        return wrapped.hasNext();
+      }
+
+      @Override
+      public @Nullable Object next() {
+        Object next = wrapped.next();
+        if (streamedCount < SAMPLE_SIZE) {
+          sample.add(next);
+        }
+        streamedCount++;
+        return next;
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    }
   }
 }
\ No newline at end of file
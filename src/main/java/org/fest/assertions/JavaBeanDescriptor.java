@@ -16,17 +16,17 @@ package org.fest.assertions;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 
 /**
- * Wrapper for {@link PropertyDescriptor}.
+ * Invokes the read methods of JavaBeans properties.
  *
  * @author Alex Ruiz
  */
 class JavaBeanDescriptor {
-  @Nullable Object invokeReadMethod(@Nonnull PropertyDescriptor descriptor, @Nonnull Object target)
+  @Nullable Object invokeReadMethod(@Nonnull Method readMethod, @Nonnull Object target)
       throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
-    return descriptor.getReadMethod().invoke(target);
+    return readMethod.invoke(target);
   }
 }
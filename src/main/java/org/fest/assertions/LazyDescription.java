@@ -0,0 +1,60 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link Description} whose value is computed only when needed, that is, when an assertion fails. The value is
+ * computed at most once. Useful when describing the actual value, or overriding the default error message, requires
+ * expensive string building that should not slow down passing assertions:
+ * <pre>
+ * assertThat(item).as(new LazyDescription() {
+ *   protected String computeValue() {
+ *     return String.format("item %d of %s", index, order);
+ *   }
+ * }).isEqualTo(expected);
+ * </pre>
+ *
+ * @since 1.5
+ */
+public abstract class LazyDescription implements Description {
+  private String value;
+
+  /**
+   * Returns the value of this description, computing it the first time this method is called.
+   *
+   * @return the value of this description.
+   */
+  @Override
+  public final @Nonnull String value() {
+    if (value == null) {
+      value = computeValue();
+    }
+    return value;
+  }
+
+  /**
+   * Computes the value of this description.
+   *
+   * @return the value of this description.
+   */
+  protected abstract @Nonnull String computeValue();
+
+  @Override
+  public String toString() {
+    return value();
+  }
+}
@@ -18,11 +18,16 @@ import org.fest.util.IntrospectionError;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Set;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.fest.assertions.Formatting.format;
+import static org.fest.assertions.ListDifferences.MAX_DIFFS;
 import static org.fest.util.Lists.newArrayList;
 import static org.fest.util.Objects.areEqual;
 import static org.fest.util.Preconditions.checkNotNull;
@@ -85,7 +90,8 @@ public class ListAssert extends ObjectGroupAssert<ListAssert, List<?>> {
 
   /**
    * Verifies that the actual {@code List} contains the given sequence of objects, without any other objects between
-   * them.
+   * them. The actual {@code List} is traversed only once, so this method takes linear time for any kind of
+   * {@code List}.
    *
    * @param sequence the sequence of objects to look for.
    * @return this assertion object.
@@ -100,21 +106,49 @@ public class ListAssert extends ObjectGroupAssert<ListAssert, List<?>> {
     if (sequenceSize == 0) {
       return this;
     }
-    int indexOfFirst = actual.indexOf(sequence[0]);
-    if (indexOfFirst == -1) {
+    if (!containsSequence(actual, sequence)) {
       failIfSequenceNotFound(sequence);
     }
-    int listSize = actualGroupSize();
-    for (int i = 0; i < sequenceSize; i++) {
-      int actualIndex = indexOfFirst + i;
-      if (actualIndex > listSize - 1) {
-        failIfSequenceNotFound(sequence);
+    return this;
+  }
+
+  /*
+   * Knuth-Morris-Pratt search: when an element of the list does not match the sequence, the search resumes from the
+   * longest prefix of the sequence that is also a suffix of the part matched so far, without going back in the list.
+   */
+  private static boolean containsSequence(@Nonnull List<?> list, @Nonnull Object[] sequence) {
+    int[] fallback = fallbackTable(sequence);
+    int matched = 0;
+    for (Object element : list) {
+      while (matched > 0 && !areEqual(sequence[matched], element)) {
+        matched = fallback[matched - 1];
+      }
+      if (areEqual(sequence[matched], element)) {
+        matched++;
       }
-      if (!areEqual(sequence[i], actual.get(actualIndex))) {
-        failIfSequenceNotFound(sequence);
+      if (matched == sequence.length) {
+        return true;
       }
     }
-    return this;
+    return false;
+  }
+
+  /*
+   * fallback[i] is the length of the longest proper prefix of sequence[0..i] that is also a suffix of it.
+   */
+  private static @Nonnull int[] fallbackTable(@Nonnull Object[] sequence) {
+    int[] fallback = new int[sequence.length];
+    int length = 0;
+    for (int i = 1; i < sequence.length; i++) {
+      while (length > 0 && !areEqual(sequence[i], sequence[length])) {
+        length = fallback[length - 1];
+      }
+      if (areEqual(sequence[i], sequence[length])) {
+        length++;
+      }
+      fallback[i] = length;
+    }
+    return fallback;
   }
 
   private void failIfSequenceNotFound(@Nonnull Object[] notFound) {
@@ -148,8 +182,9 @@ public class ListAssert extends ObjectGroupAssert<ListAssert, List<?>> {
     if (listSize < sequenceSize) {
       failIfNotStartingWithSequence(sequence);
     }
-    for (int i = 0; i < sequenceSize; i++) {
-      if (!areEqual(sequence[i], actual.get(i))) {
+    Iterator<?> elements = actual.iterator();
+    for (Object o : sequence) {
+      if (!areEqual(o, elements.next())) {
         failIfNotStartingWithSequence(sequence);
       }
     }
@@ -187,10 +222,9 @@ public class ListAssert extends ObjectGroupAssert<ListAssert, List<?>> {
     if (listSize < sequenceSize) {
       failIfNotEndingWithSequence(sequence);
     }
-    for (int i = 0; i < sequenceSize; i++) {
-      int sequenceIndex = sequenceSize - 1 - i;
-      int listIndex = listSize - 1 - i;
-      if (!areEqual(sequence[sequenceIndex], actual.get(listIndex))) {
+    ListIterator<?> elements = actual.listIterator(listSize);
+    for (int i = sequenceSize - 1; i >= 0; i--) {
+      if (!areEqual(sequence[i], elements.previous())) {
         failIfNotEndingWithSequence(sequence);
       }
     }
@@ -216,7 +250,9 @@ public class ListAssert extends ObjectGroupAssert<ListAssert, List<?>> {
 
   /**
    * Verifies that the actual {@code List} contains the given objects, in the same order. This method works just like
-   * {@code isEqualTo(List)}, with the difference that internally the given array is converted to a {@code List}.
+   * {@code isEqualTo(List)}, without converting the given array to a {@code List}. If the actual {@code List} does not
+   * contain the given objects, the failure message lists the elements that are unexpected, missing or at a different
+   * position, with their indices.
    *
    * @param objects the objects to look for.
    * @return this assertion object.
@@ -226,7 +262,54 @@ public class ListAssert extends ObjectGroupAssert<ListAssert, List<?>> {
    */
   public @Nonnull ListAssert containsExactly(@Nonnull Object... objects) {
     checkNotNull(objects);
-    return isNotNull().isEqualTo(newArrayList(objects));
+    isNotNull();
+    if (containsExactly(actual, objects)) {
+      return this;
+    }
+    failIfCustomMessageIsSet();
+    List<String> differences = new ListDifferences(new ArrayList<Object>(actual), asList(objects)).describe();
+    StringBuilder b = new StringBuilder();
+    b.append(format("list:<%s> does not contain exactly:<%s>, differences:", actual, objects));
+    for (int i = 0; i < differences.size() && i < MAX_DIFFS; i++) {
+      b.append(String.format("%n%s", differences.get(i)));
+    }
+    if (differences.size() > MAX_DIFFS) {
+      b.append(String.format("%n(comparison stopped after %d differences)", MAX_DIFFS));
+    }
+    throw failure(b.toString());
+  }
+
+  private static boolean containsExactly(@Nonnull List<?> list, @Nonnull Object[] objects) {
+    if (list.size() != objects.length) {
+      return false;
+    }
+    int i = 0;
+    for (Object element : list) {
+      if (!areEqual(element, objects[i++])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Verifies that the actual {@code List} contains the given objects, and nothing else, in any order. Unlike
+   * {@link #containsOnly(Object...)}, duplicates are taken into account: each object must be in the actual {@code List}
+   * as many times as it is given.
+   *
+   * @param objects the objects to look for.
+   * @return this assertion object.
+   * @throws AssertionError       if the actual {@code List} is {@code null}.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws AssertionError       if the actual {@code List} does not contain the given objects as many times as they
+   *                              are given, or if it contains other objects.
+   * @since 1.5
+   */
+  public @Nonnull ListAssert containsExactlyInAnyOrder(@Nonnull Object... objects) {
+    checkNotNull(objects);
+    isNotNull();
+    assertContainsExactlyInAnyOrder(actual, objects);
+    return this;
   }
 
   /**
@@ -0,0 +1,182 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.fest.assertions.Formatting.inBrackets;
+import static org.fest.assertions.MyersDiff.DELETE;
+import static org.fest.assertions.MyersDiff.INSERT;
+import static org.fest.assertions.MyersDiff.MAX_EDIT_DISTANCE;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Objects.areEqual;
+
+/**
+ * Describes the differences between the elements of two lists: elements in the actual list that are not in the
+ * expected one, elements of the expected list missing from the actual one, and elements that are in both lists but at
+ * different positions. Elements are looked up by index, so both lists should be {@code RandomAccess} lists.
+ *
+ * @since 1.5
+ */
+final class ListDifferences {
+  static final int MAX_DIFFS = 100;
+
+  private final List<?> actual;
+  private final List<?> expected;
+
+  /**
+   * Creates a new {@link ListDifferences}.
+   *
+   * @param actual   the actual elements.
+   * @param expected the expected elements.
+   */
+  ListDifferences(@Nonnull List<?> actual, @Nonnull List<?> expected) {
+    this.actual = actual;
+    this.expected = expected;
+  }
+
+  /**
+   * Describes the differences between the actual and expected lists, one per line, in order of their indices. Indices of
+   * unexpected and moved elements are indices in the actual list; indices of missing elements are indices in the
+   * expected list.
+   *
+   * @return the description of the differences, at most {@link #MAX_DIFFS} lines, plus one more line if there are more
+   *         differences than that, so callers can tell whether the comparison stopped early.
+   */
+  @Nonnull List<String> describe() {
+    int start = commonPrefixLength();
+    int suffixLength = commonSuffixLength(start);
+    int actualEnd = actual.size() - suffixLength;
+    int expectedEnd = expected.size() - suffixLength;
+    List<?> actualDiff = actual.subList(start, actualEnd);
+    List<?> expectedDiff = expected.subList(start, expectedEnd);
+    List<int[]> edits = new MyersDiff(actualDiff, expectedDiff).shortestEditScript(MAX_EDIT_DISTANCE);
+    List<Integer> deleted = newArrayList();
+    List<Integer> inserted = newArrayList();
+    if (edits == null) {
+      addDifferencesByIndex(deleted, inserted, start, actualEnd, expectedEnd);
+    } else {
+      for (int[] edit : edits) {
+        if (edit[0] == DELETE) {
+          deleted.add(start + edit[1]);
+        } else if (edit[0] == INSERT) {
+          inserted.add(start + edit[2]);
+        }
+      }
+    }
+    return describe(deleted, inserted);
+  }
+
+  private int commonPrefixLength() {
+    int max = min(actual.size(), expected.size());
+    int length = 0;
+    while (length < max && areEqual(actual.get(length), expected.get(length))) {
+      length++;
+    }
+    return length;
+  }
+
+  private int commonSuffixLength(int prefixLength) {
+    int lastActual = actual.size() - 1;
+    int lastExpected = expected.size() - 1;
+    int max = min(actual.size(), expected.size()) - prefixLength;
+    int length = 0;
+    while (length < max && areEqual(actual.get(lastActual - length), expected.get(lastExpected - length))) {
+      length++;
+    }
+    return length;
+  }
+
+  /*
+   * When the lists are too different for the shortest edit script to be searched, the elements at the same index are
+   * compared, and only the ones that are not equal are looked at.
+   */
+  private void addDifferencesByIndex(@Nonnull List<Integer> deleted, @Nonnull List<Integer> inserted, int start,
+                                     int actualEnd, int expectedEnd) {
+    int commonEnd = min(actualEnd, expectedEnd);
+    for (int i = start; i < commonEnd && deleted.size() < MAX_EDIT_DISTANCE; i++) {
+      if (!areEqual(actual.get(i), expected.get(i))) {
+        deleted.add(i);
+        inserted.add(i);
+      }
+    }
+    addAll(deleted, commonEnd, min(actualEnd, commonEnd + MAX_EDIT_DISTANCE - deleted.size()));
+    addAll(inserted, commonEnd, min(expectedEnd, commonEnd + MAX_EDIT_DISTANCE - inserted.size()));
+  }
+
+  private static void addAll(@Nonnull List<Integer> indices, int from, int to) {
+    for (int i = from; i < to; i++) {
+      indices.add(i);
+    }
+  }
+
+  /*
+   * An element deleted from the actual list and inserted in the expected one is reported as moved; the elements left
+   * are reported as unexpected (deleted) or missing (inserted.) If there are more differences than MAX_DIFFS, the lines
+   * are shared between deleted and missing elements, so both kinds are reported. The lines are in order of indices.
+   */
+  private @Nonnull List<String> describe(@Nonnull List<Integer> deleted, @Nonnull List<Integer> inserted) {
+    boolean[] moved = new boolean[inserted.size()];
+    int[] movedTo = new int[deleted.size()];
+    for (int i = 0; i < deleted.size(); i++) {
+      movedTo[i] = indexOfInserted(actual.get(deleted.get(i)), inserted, moved);
+      if (movedTo[i] >= 0) {
+        moved[movedTo[i]] = true;
+      }
+    }
+    List<Integer> missing = newArrayList();
+    for (int j = 0; j < inserted.size(); j++) {
+      if (!moved[j]) {
+        missing.add(inserted.get(j));
+      }
+    }
+    int maxLines = MAX_DIFFS + 1;
+    int deletedCount = min(deleted.size(), max(maxLines / 2, maxLines - missing.size()));
+    int missingCount = min(missing.size(), maxLines - deletedCount);
+    List<String> differences = newArrayList();
+    int i = 0;
+    int j = 0;
+    while (i < deletedCount || j < missingCount) {
+      if (j == missingCount || (i < deletedCount && deleted.get(i) <= missing.get(j))) {
+        differences.add(describeDeleted(deleted.get(i), movedTo[i] < 0 ? -1 : inserted.get(movedTo[i])));
+        i++;
+        continue;
+      }
+      int expectedIndex = missing.get(j++);
+      differences.add(String.format("index:<%d>, missing:%s", expectedIndex, inBrackets(expected.get(expectedIndex))));
+    }
+    return differences;
+  }
+
+  private @Nonnull String describeDeleted(int actualIndex, int expectedIndex) {
+    Object element = actual.get(actualIndex);
+    if (expectedIndex < 0) {
+      return String.format("index:<%d>, unexpected:%s", actualIndex, inBrackets(element));
+    }
+    return String.format("index:<%d>, moved:%s to index:<%d>", actualIndex, inBrackets(element), expectedIndex);
+  }
+
+  private int indexOfInserted(Object element, @Nonnull List<Integer> inserted, @Nonnull boolean[] moved) {
+    for (int j = 0; j < inserted.size(); j++) {
+      if (!moved[j] && areEqual(element, expected.get(inserted.get(j)))) {
+        return j;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+/**
+ * Open-addressing hash set of {@code long} keys. Each key can be "marked" once, which lets callers track which keys
+ * have been seen without a second set or any boxing.
+ *
+ * @since 1.5
+ */
+final class LongHashSet {
+  private static final int MIN_CAPACITY = 8;
+
+  private long[] keys;
+  private boolean[] used;
+  private boolean[] marked;
+  private int mask;
+  private int size;
+
+  LongHashSet() {
+    this(0);
+  }
+
+  LongHashSet(int expectedSize) {
+    allocate(capacityFor(expectedSize));
+  }
+
+  private static int capacityFor(int expectedSize) {
+    int capacity = MIN_CAPACITY;
+    while (capacity < expectedSize * 2) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    used = new boolean[capacity];
+    marked = new boolean[capacity];
+    mask = capacity - 1;
+  }
+
+  /**
+   * Adds the given key to this set.
+   *
+   * @param key the key to add.
+   * @return {@code true} if the key was not already in this set.
+   */
+  boolean add(long key) {
+    int i = indexOf(key);
+    if (used[i]) {
+      return false;
+    }
+    used[i] = true;
+    keys[i] = key;
+    if (++size * 2 > keys.length) {
+      grow();
+    }
+    return true;
+  }
+
+  boolean contains(long key) {
+    return used[indexOf(key)];
+  }
+
+  /**
+   * Marks the given key, if it is in this set.
+   *
+   * @param key the key to mark.
+   * @return {@code true} if the key is in this set and it was not marked before.
+   */
+  boolean mark(long key) {
+    int i = indexOf(key);
+    if (!used[i] || marked[i]) {
+      return false;
+    }
+    marked[i] = true;
+    return true;
+  }
+
+  boolean isMarked(long key) {
+    int i = indexOf(key);
+    return used[i] && marked[i];
+  }
+
+  int size() {
+    return size;
+  }
+
+  private int indexOf(long key) {
+    int i = hash(key) & mask;
+    while (used[i] && keys[i] != key) {
+      i = (i + 1) & mask;
+    }
+    return i;
+  }
+
+  private static int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private void grow() {
+    long[] oldKeys = keys;
+    boolean[] oldUsed = used;
+    boolean[] oldMarked = marked;
+    allocate(oldKeys.length * 2);
+    for (int j = 0; j < oldKeys.length; j++) {
+      if (!oldUsed[j]) {
+        continue;
+      }
+      int i = indexOf(oldKeys[j]);
+      used[i] = true;
+      keys[i] = oldKeys[j];
+      marked[i] = oldMarked[j];
+    }
+  }
+}
@@ -0,0 +1,252 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.assertions.FileContentComparator.LineDiff;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+import static java.lang.Math.min;
+import static java.util.Arrays.copyOfRange;
+import static java.util.Collections.reverse;
+import static org.fest.assertions.FileContentComparator.LineDiff.lineDiff;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Objects.areEqual;
+
+/**
+ * Finds the differences between two lists, using the O((N+M)D) algorithm by Eugene W. Myers, described in
+ * <a href="http://www.xmailserver.org/diff2.pdf" target="_blank">An O(ND) Difference Algorithm and Its Variations</a>.
+ * Elements are compared with {@code equals}.
+ * <p/>
+ * The differences between lists of lines are reported as {@link LineDiff}s: lines changed in the actual lines, lines in
+ * the actual lines that are not in the expected ones (with a {@code null} expected line) and lines in the expected
+ * lines missing from the actual ones (with a {@code null} actual line.) Line numbers are zero-based indices in the
+ * actual lines.
+ *
+ * @since 1.5
+ */
+final class MyersDiff {
+  static final int EQUAL = 0;
+  static final int DELETE = 1;
+  static final int INSERT = 2;
+
+  /**
+   * Edit distance up to which the shortest edit script is worth searching when describing differences. Searching up
+   * to an edit distance D keeps about D^2 ints, 4 MB for this value.
+   */
+  static final int MAX_EDIT_DISTANCE = 1000;
+
+  private final List<?> actual;
+  private final List<?> expected;
+  private final int firstLineNumber;
+
+  /**
+   * Creates a new {@link MyersDiff}.
+   *
+   * @param actual   the actual elements.
+   * @param expected the expected elements.
+   */
+  MyersDiff(@Nonnull List<?> actual, @Nonnull List<?> expected) {
+    this(actual, expected, 0);
+  }
+
+  /**
+   * Creates a new {@link MyersDiff}.
+   *
+   * @param actual          the actual lines.
+   * @param expected        the expected lines.
+   * @param firstLineNumber the line number of the first actual line.
+   */
+  MyersDiff(@Nonnull List<?> actual, @Nonnull List<?> expected, int firstLineNumber) {
+    this.actual = actual;
+    this.expected = expected;
+    this.firstLineNumber = firstLineNumber;
+  }
+
+  /**
+   * Returns the differences between the actual and expected lines. If the lines need more than the given number of
+   * edits to be made equal, the shortest edit script is not searched any further and the lines are compared by index.
+   *
+   * @param maxEditDistance the maximum number of edits (lines inserted or deleted) to look for.
+   * @param maxDiffs        the maximum number of differences to return.
+   * @return the differences found, at most {@code maxDiffs}.
+   */
+  @Nonnull List<LineDiff> diffs(int maxEditDistance, int maxDiffs) {
+    return diffs(maxEditDistance, maxDiffs, false);
+  }
+
+  /**
+   * Returns the differences between the actual and expected lines, which are the first lines of longer lists. The lines
+   * after the last equal ones may only differ because the lists were cut, so only the ones that can be paired are
+   * reported as changed: none is reported as unexpected or missing.
+   *
+   * @param maxEditDistance the maximum number of edits (lines inserted or deleted) to look for.
+   * @param maxDiffs        the maximum number of differences to return.
+   * @return the differences found, at most {@code maxDiffs}.
+   */
+  @Nonnull List<LineDiff> diffsOfFirstLines(int maxEditDistance, int maxDiffs) {
+    return diffs(maxEditDistance, maxDiffs, true);
+  }
+
+  private @Nonnull List<LineDiff> diffs(int maxEditDistance, int maxDiffs, boolean firstLinesOnly) {
+    List<int[]> edits = shortestEditScript(maxEditDistance);
+    List<LineDiff> diffs = newArrayList();
+    if (edits == null) {
+      addDiffsByIndex(diffs, maxDiffs, firstLinesOnly);
+      return diffs;
+    }
+    List<Integer> deleted = newArrayList();
+    List<Integer> inserted = newArrayList();
+    for (int[] edit : edits) {
+      if (edit[0] == DELETE) {
+        deleted.add(edit[1]);
+      } else if (edit[0] == INSERT) {
+        inserted.add(edit[2]);
+      } else {
+        addHunk(deleted, inserted, edit[1], diffs, maxDiffs);
+      }
+    }
+    if (firstLinesOnly) {
+      addChangedLines(deleted, inserted, diffs, maxDiffs);
+    } else {
+      addHunk(deleted, inserted, actual.size(), diffs, maxDiffs);
+    }
+    return diffs;
+  }
+
+  /*
+   * Compares the lines at the same index, which is what the lines can be compared with when they are too different for
+   * the shortest edit script to be searched.
+   */
+  private void addDiffsByIndex(@Nonnull List<LineDiff> diffs, int maxDiffs, boolean firstLinesOnly) {
+    int common = min(actual.size(), expected.size());
+    for (int i = 0; i < common && diffs.size() < maxDiffs; i++) {
+      if (!areEqual(actual.get(i), expected.get(i))) {
+        diffs.add(lineDiff(firstLineNumber + i, lineAt(actual, i), lineAt(expected, i)));
+      }
+    }
+    if (firstLinesOnly) {
+      return;
+    }
+    for (int i = common; i < actual.size() && diffs.size() < maxDiffs; i++) {
+      diffs.add(lineDiff(firstLineNumber + i, lineAt(actual, i), null));
+    }
+    for (int i = common; i < expected.size() && diffs.size() < maxDiffs; i++) {
+      diffs.add(lineDiff(firstLineNumber + actual.size(), null, lineAt(expected, i)));
+    }
+  }
+
+  /*
+   * Turns a run of deleted and inserted lines into line diffs: the first lines of the run are reported as changed, the
+   * rest as unexpected (if there are more deleted lines) or missing (if there are more inserted lines.)
+   */
+  private void addHunk(@Nonnull List<Integer> deleted, @Nonnull List<Integer> inserted, int nextActualIndex,
+                       @Nonnull List<LineDiff> diffs, int maxDiffs) {
+    addChangedLines(deleted, inserted, diffs, maxDiffs);
+    int changed = min(deleted.size(), inserted.size());
+    for (int i = changed; i < deleted.size() && diffs.size() < maxDiffs; i++) {
+      int a = deleted.get(i);
+      diffs.add(lineDiff(firstLineNumber + a, lineAt(actual, a), null));
+    }
+    for (int i = changed; i < inserted.size() && diffs.size() < maxDiffs; i++) {
+      diffs.add(lineDiff(firstLineNumber + nextActualIndex, null, lineAt(expected, inserted.get(i))));
+    }
+    deleted.clear();
+    inserted.clear();
+  }
+
+  private void addChangedLines(@Nonnull List<Integer> deleted, @Nonnull List<Integer> inserted,
+                               @Nonnull List<LineDiff> diffs, int maxDiffs) {
+    int changed = min(deleted.size(), inserted.size());
+    for (int i = 0; i < changed && diffs.size() < maxDiffs; i++) {
+      int a = deleted.get(i);
+      diffs.add(lineDiff(firstLineNumber + a, lineAt(actual, a), lineAt(expected, inserted.get(i))));
+    }
+  }
+
+  private static @Nonnull String lineAt(@Nonnull List<?> lines, int index) {
+    return (String) lines.get(index);
+  }
+
+  /**
+   * Returns the edits that turn the actual elements into the expected ones, in order. Each edit is an array
+   * {type, actual index, expected index}, where type is {@link #EQUAL}, {@link #DELETE} (an actual element not in
+   * the expected ones) or {@link #INSERT} (an expected element missing from the actual ones.)
+   *
+   * @param maxEditDistance the maximum number of edits (elements inserted or deleted) to look for.
+   * @return the edits found, or {@code null} if more than the given number of elements need to be deleted or inserted.
+   */
+  @Nullable List<int[]> shortestEditScript(int maxEditDistance) {
+    int n = actual.size();
+    int m = expected.size();
+    int max = min(n + m, maxEditDistance);
+    int offset = max + 1;
+    int[] v = new int[2 * max + 3];
+    List<int[]> trace = newArrayList();
+    for (int d = 0; d <= max; d++) {
+      trace.add(copyOfRange(v, offset - d - 1, offset + d + 2));
+      for (int k = -d; k <= d; k += 2) {
+        int x = moveDown(v, offset, k, d) ? v[offset + k + 1] : v[offset + k - 1] + 1;
+        int y = x - k;
+        while (x < n && y < m && areEqual(actual.get(x), expected.get(y))) {
+          x++;
+          y++;
+        }
+        v[offset + k] = x;
+        if (x >= n && y >= m) {
+          return backtrack(trace, d);
+        }
+      }
+    }
+    return null;
+  }
+
+  private static boolean moveDown(@Nonnull int[] v, int offset, int k, int d) {
+    return k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]);
+  }
+
+  /*
+   * Each snapshot in the trace only holds the diagonals -(d + 1) to d + 1 that backtracking from step d looks at, so
+   * the trace takes about D^2 ints for an edit distance D.
+   */
+  private @Nonnull List<int[]> backtrack(@Nonnull List<int[]> trace, int editDistance) {
+    List<int[]> edits = newArrayList();
+    int x = actual.size();
+    int y = expected.size();
+    for (int d = editDistance; d > 0; d--) {
+      int[] window = trace.get(d);
+      int windowOffset = d + 1;
+      int k = x - y;
+      int previousK = moveDown(window, windowOffset, k, d) ? k + 1 : k - 1;
+      int previousX = window[windowOffset + previousK];
+      int previousY = previousX - previousK;
+      while (x > previousX && y > previousY) {
+        edits.add(new int[]{EQUAL, --x, --y});
+      }
+      if (previousK == k + 1) {
+        edits.add(new int[]{INSERT, x, --y});
+      } else {
+        edits.add(new int[]{DELETE, --x, y});
+      }
+    }
+    while (x > 0 && y > 0) {
+      edits.add(new int[]{EQUAL, --x, --y});
+    }
+    reverse(edits);
+    return edits;
+  }
+}
@@ -162,7 +162,7 @@ public class ObjectArrayAssert extends ObjectGroupAssert<ObjectArrayAssert, Obje
     if (actual.length == 0) {
       return new ObjectArrayAssert(new Object[0]);
     }
-    List<Object> values = PropertySupport.instance().propertyValues(propertyName, newArrayList(actual));
+    List<Object> values = PropertySupport.instance().propertyValues(propertyName, Arrays.asList(actual));
     return new ObjectArrayAssert(values.toArray());
   }
 
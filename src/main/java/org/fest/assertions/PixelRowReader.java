@@ -0,0 +1,127 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+
+import static java.awt.image.BufferedImage.*;
+
+/**
+ * Reads the pixels of a {@code BufferedImage} one row at a time, as {@code int}s in the default RGB color model (the
+ * same values returned by {@link BufferedImage#getRGB(int, int)}.) Images of type {@code TYPE_INT_RGB},
+ * {@code TYPE_INT_ARGB} and {@code TYPE_3BYTE_BGR} are read directly from their {@code Raster}; any other image type is
+ * read through {@link BufferedImage#getRGB(int, int, int, int, int[], int, int)}, still one row at a time.
+ * <p/>
+ * Instances are not thread-safe, since they may reuse an internal buffer between rows.
+ *
+ * @since 1.5
+ */
+abstract class PixelRowReader {
+  static @Nonnull PixelRowReader readerFor(@Nonnull BufferedImage image) {
+    switch (image.getType()) {
+      case TYPE_INT_ARGB:
+        return new IntArgbRowReader(image);
+      case TYPE_INT_RGB:
+        return new IntRgbRowReader(image);
+      case TYPE_3BYTE_BGR:
+        return new ThreeByteBgrRowReader(image);
+      default:
+        return new DefaultRowReader(image);
+    }
+  }
+
+  final int width;
+
+  private PixelRowReader(@Nonnull BufferedImage image) {
+    width = image.getWidth();
+  }
+
+  /**
+   * Reads the pixels in the given row.
+   *
+   * @param y   the row to read.
+   * @param rgb stores the pixels read, in the default RGB color model. Its length should be at least the width of the
+   *            image.
+   */
+  abstract void readRow(int y, @Nonnull int[] rgb);
+
+  private static class IntArgbRowReader extends PixelRowReader {
+    private final WritableRaster raster;
+
+    IntArgbRowReader(@Nonnull BufferedImage image) {
+      super(image);
+      raster = image.getRaster();
+    }
+
+    @Override
+    void readRow(int y, @Nonnull int[] rgb) {
+      raster.getDataElements(0, y, width, 1, rgb);
+    }
+  }
+
+  private static class IntRgbRowReader extends IntArgbRowReader {
+    private static final int OPAQUE = 0xFF << 24;
+
+    IntRgbRowReader(@Nonnull BufferedImage image) {
+      super(image);
+    }
+
+    @Override
+    void readRow(int y, @Nonnull int[] rgb) {
+      super.readRow(y, rgb);
+      for (int x = 0; x < width; x++) {
+        rgb[x] |= OPAQUE;
+      }
+    }
+  }
+
+  private static class ThreeByteBgrRowReader extends PixelRowReader {
+    private static final int OPAQUE = 0xFF << 24;
+
+    private final WritableRaster raster;
+    private final byte[] samples;
+
+    ThreeByteBgrRowReader(@Nonnull BufferedImage image) {
+      super(image);
+      raster = image.getRaster();
+      samples = new byte[width * 3];
+    }
+
+    @Override
+    void readRow(int y, @Nonnull int[] rgb) {
+      // data elements are returned in band order: red, green, blue
+      raster.getDataElements(0, y, width, 1, samples);
+      for (int x = 0, i = 0; x < width; x++, i += 3) {
+        rgb[x] = OPAQUE | (samples[i] & 0xFF) << 16 | (samples[i + 1] & 0xFF) << 8 | (samples[i + 2] & 0xFF);
+      }
+    }
+  }
+
+  private static class DefaultRowReader extends PixelRowReader {
+    private final BufferedImage image;
+
+    DefaultRowReader(@Nonnull BufferedImage image) {
+      super(image);
+      this.image = image;
+    }
+
+    @Override
+    void readRow(int y, @Nonnull int[] rgb) {
+      image.getRGB(0, y, width, 1, rgb, 0, width);
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Float.floatToIntBits;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Read-only view of an array of primitives. Each element is exposed as a {@code long} key, which is equal for two
+ * elements if and only if their wrappers are equal (e.g. {@code Double.equals}), so elements can be compared and
+ * hashed without boxing. Boxed values are only created on request, to build failure messages.
+ *
+ * @since 1.5
+ */
+abstract class PrimitiveArray {
+  static @Nonnull PrimitiveArray of(@Nonnull Object array) {
+    checkNotNull(array);
+    if (array instanceof int[]) {
+      return of((int[]) array);
+    }
+    if (array instanceof long[]) {
+      return of((long[]) array);
+    }
+    if (array instanceof double[]) {
+      return of((double[]) array);
+    }
+    if (array instanceof float[]) {
+      return of((float[]) array);
+    }
+    if (array instanceof short[]) {
+      return of((short[]) array);
+    }
+    if (array instanceof byte[]) {
+      return of((byte[]) array);
+    }
+    if (array instanceof char[]) {
+      return of((char[]) array);
+    }
+    if (array instanceof boolean[]) {
+      return of((boolean[]) array);
+    }
+    throw new IllegalArgumentException("The given object is not an array of primitives");
+  }
+
+  static @Nonnull PrimitiveArray of(@Nonnull final boolean[] array) {
+    checkNotNull(array);
+    return new PrimitiveArray(array.length) {
+      @Override
+      long keyAt(int index) {
+        return array[index] ? 1 : 0;
+      }
+
+      @Override
+      @Nonnull Object valueAt(int index) {
+        return array[index];
+      }
+    };
+  }
+
+  static @Nonnull PrimitiveArray of(@Nonnull final byte[] array) {
+    checkNotNull(array);
+    return new PrimitiveArray(array.length) {
+      @Override
+      long keyAt(int index) {
+        return array[index];
+      }
+
+      @Override
+      @Nonnull Object valueAt(int index) {
+        return array[index];
+      }
+    };
+  }
+
+  static @Nonnull PrimitiveArray of(@Nonnull final char[] array) {
+    checkNotNull(array);
+    return new PrimitiveArray(array.length) {
+      @Override
+      long keyAt(int index) {
+        return array[index];
+      }
+
+      @Override
+      @Nonnull Object valueAt(int index) {
+        return array[index];
+      }
+    };
+  }
+
+  static @Nonnull PrimitiveArray of(@Nonnull final short[] array) {
+    checkNotNull(array);
+    return new PrimitiveArray(array.length) {
+      @Override
+      long keyAt(int index) {
+        return array[index];
+      }
+
+      @Override
+      @Nonnull Object valueAt(int index) {
+        return array[index];
+      }
+    };
+  }
+
+  static @Nonnull PrimitiveArray of(@Nonnull final int[] array) {
+    checkNotNull(array);
+    return new PrimitiveArray(array.length) {
+      @Override
+      long keyAt(int index) {
+        return array[index];
+      }
+
+      @Override
+      @Nonnull Object valueAt(int index) {
+        return array[index];
+      }
+    };
+  }
+
+  static @Nonnull PrimitiveArray of(@Nonnull final long[] array) {
+    checkNotNull(array);
+    return new PrimitiveArray(array.length) {
+      @Override
+      long keyAt(int index) {
+        return array[index];
+      }
+
+      @Override
+      @Nonnull Object valueAt(int index) {
+        return array[index];
+      }
+    };
+  }
+
+  static @Nonnull PrimitiveArray of(@Nonnull final float[] array) {
+    checkNotNull(array);
+    return new PrimitiveArray(array.length) {
+      @Override
+      long keyAt(int index) {
+        return floatToIntBits(array[index]);
+      }
+
+      @Override
+      @Nonnull Object valueAt(int index) {
+        return array[index];
+      }
+    };
+  }
+
+  static @Nonnull PrimitiveArray of(@Nonnull final double[] array) {
+    checkNotNull(array);
+    return new PrimitiveArray(array.length) {
+      @Override
+      long keyAt(int index) {
+        return doubleToLongBits(array[index]);
+      }
+
+      @Override
+      @Nonnull Object valueAt(int index) {
+        return array[index];
+      }
+    };
+  }
+
+  private final int length;
+
+  private PrimitiveArray(int length) {
+    this.length = length;
+  }
+
+  final int length() {
+    return length;
+  }
+
+  abstract long keyAt(int index);
+
+  abstract @Nonnull Object valueAt(int index);
+
+  final @Nonnull LongHashSet keys() {
+    LongHashSet keys = new LongHashSet(length);
+    for (int i = 0; i < length; i++) {
+      keys.add(keyAt(i));
+    }
+    return keys;
+  }
+}
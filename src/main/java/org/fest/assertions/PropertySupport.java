@@ -20,13 +20,12 @@ import org.fest.util.VisibleForTesting;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
 import static org.fest.util.Collections.isNullOrEmpty;
-import static org.fest.util.Collections.nonNullElementsIn;
-import static org.fest.util.Introspection.getProperty;
 import static org.fest.util.Lists.emptyList;
 import static org.fest.util.Lists.newArrayList;
 import static org.fest.util.Preconditions.checkNotNull;
@@ -43,6 +42,7 @@ final class PropertySupport {
   private static final String SEPARATOR = ".";
   private static final PropertySupport INSTANCE = new PropertySupport();
   private final JavaBeanDescriptor javaBeanDescriptor;
+  private final ReadMethodCache readMethodCache = new ReadMethodCache();
 
   private PropertySupport() {
     this(new JavaBeanDescriptor());
@@ -60,12 +60,9 @@ final class PropertySupport {
    * Returns a list containing the values of the given property name, from the elements of the given collection. If the
    * given collection is empty or {@code null}, this method will return an empty collection.
    * <p/>
-   * For example, given the nested property "address.street.number", this method will:
-   * <ol>
-   * <li>extract a collection of "address" from the given collection (remaining property is 'street.number')</li>
-   * <li>extract a collection of "street" from the "address" collection (remaining property is 'number')</li>
-   * <li>extract a collection of "number" from the "street" collection</li>
-   * </ol>
+   * For example, given the nested property "address.street.number", this method will read, from each element of the
+   * given collection, its "address", then the "street" of that address and finally the "number" of that street. Null
+   * elements, or elements with a {@code null} "address" or "street", are skipped.
    *
    * @param propertyName the name of the property. It may be a nested property.
    * @param target       the given collection.
@@ -77,25 +74,80 @@ final class PropertySupport {
     if (isNullOrEmpty(target)) {
       return emptyList();
     }
-    // ignore null elements as we can't extract a property from a null object
-    Collection<?> nonNullElements = nonNullElementsIn(target);
-    if (isNestedProperty(propertyName)) {
-      String firstProperty = firstPropertyIfNested(propertyName);
-      List<Object> firstPropertyValues = propertyValues(firstProperty, nonNullElements);
-      // extract next sub property values until reaching a last sub property
-      return propertyValues(removeFirstPropertyIfNested(propertyName), firstPropertyValues);
+    return propertyPath(propertyName).valuesOf(target);
+  }
+
+  /**
+   * Splits the given property name into the properties to read, in turn, from an object.
+   *
+   * @param propertyName the name of the property. It may be a nested property.
+   * @return the created {@code PropertyPath}.
+   * @throws NullPointerException if given property name is {@code null}.
+   */
+  @Nonnull PropertyPath propertyPath(@Nonnull String propertyName) {
+    return new PropertyPath(propertyName);
+  }
+
+  /**
+   * A property name, nested or not, split into the properties to read from each element. Values are extracted in a
+   * single pass over the elements, without creating a collection for each level of a nested property.
+   */
+  final class PropertyPath {
+    private final Segment[] segments;
+
+    private PropertyPath(@Nonnull String propertyName) {
+      List<Segment> segments = newArrayList();
+      String remaining = propertyName;
+      while (isNestedProperty(remaining)) {
+        segments.add(new Segment(firstPropertyIfNested(remaining)));
+        remaining = removeFirstPropertyIfNested(remaining);
+      }
+      segments.add(new Segment(remaining));
+      this.segments = segments.toArray(new Segment[segments.size()]);
+    }
+
+    /**
+     * Returns the values of this property from the given elements. {@code null} elements are ignored, as well as
+     * elements where any but the last property in this path is {@code null}.
+     *
+     * @param elements the elements to read the property from.
+     * @return the values of this property from the given elements.
+     * @throws IntrospectionError if an element does not have a matching property.
+     */
+    @Nonnull List<Object> valuesOf(@Nonnull Collection<?> elements) {
+      List<Object> values = new ArrayList<Object>(elements.size());
+      int last = segments.length - 1;
+      for (Object e : elements) {
+        Object value = e;
+        for (int i = 0; i < last && value != null; i++) {
+          value = segments[i].valueOf(value);
+        }
+        if (value != null) {
+          values.add(segments[last].valueOf(value));
+        }
+      }
+      return values;
     }
-    return simplePropertyValues(propertyName, nonNullElements);
   }
 
-  private @Nonnull List<Object> simplePropertyValues(@Nonnull String propertyName, @Nonnull Collection<?> target) {
-    List<Object> propertyValues = newArrayList();
-    for (Object e : target) {
-      if (e != null) {
-        propertyValues.add(propertyValue(propertyName, e));
+  private final class Segment {
+    private final String propertyName;
+    // elements usually share the same type: look up the read method only when the type changes
+    private Class<?> type;
+    private Method readMethod;
+
+    Segment(@Nonnull String propertyName) {
+      this.propertyName = propertyName;
+    }
+
+    @Nullable Object valueOf(@Nonnull Object target) {
+      Class<?> targetType = target.getClass();
+      if (targetType != type) {
+        readMethod = readMethodCache.readMethod(propertyName, target);
+        type = targetType;
       }
+      return propertyValue(readMethod, propertyName, target);
     }
-    return propertyValues;
   }
 
   /**
@@ -157,16 +209,10 @@ final class PropertySupport {
     return checkNotNull(propertyName.substring(0, propertyName.indexOf(SEPARATOR)));
   }
 
-  private @Nullable Object propertyValue(@Nonnull String propertyName, @Nonnull Object target) {
-    PropertyDescriptor descriptor = getProperty(propertyName, target);
-    return propertyValue(descriptor, propertyName, target);
-  }
-
   @VisibleForTesting
-  @Nullable Object propertyValue(
-      @Nonnull PropertyDescriptor descriptor, @Nonnull String propertyName, @Nonnull Object target) {
+  @Nullable Object propertyValue(@Nullable Method readMethod, @Nonnull String propertyName, @Nonnull Object target) {
     try {
-      return javaBeanDescriptor.invokeReadMethod(descriptor, target);
+      return javaBeanDescriptor.invokeReadMethod(readMethod, target);
     } catch (Exception e) {
       throw new IntrospectionError("Unable to obtain the value in property " + quote(propertyName), e);
     }
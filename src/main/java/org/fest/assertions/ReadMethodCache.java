@@ -0,0 +1,70 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.util.IntrospectionError;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static org.fest.util.Introspection.getProperty;
+
+/**
+ * Cache of the read methods of JavaBeans properties, keyed by type and property name. Types are weakly referenced and
+ * the methods of each type are softly referenced. Since the cached methods refer to their type, a type (and its class
+ * loader) stays reachable until the garbage collector clears the soft reference to its methods, which it does before
+ * running out of memory.
+ *
+ * @since 1.5
+ */
+class ReadMethodCache {
+  private final Map<Class<?>, Reference<Map<String, Method>>> readMethodsByType =
+      new WeakHashMap<Class<?>, Reference<Map<String, Method>>>();
+
+  /**
+   * Returns the read method of the given property in the given object's type. Introspection happens only the first
+   * time a property is requested for a type.
+   *
+   * @param propertyName the name of the property.
+   * @param target       the object containing the property.
+   * @return the read method of the property, or {@code null} if the property does not have one.
+   * @throws IntrospectionError if the given object does not have a matching property.
+   */
+  synchronized @Nullable Method readMethod(@Nonnull String propertyName, @Nonnull Object target) {
+    Map<String, Method> readMethods = readMethodsOf(target.getClass());
+    if (readMethods.containsKey(propertyName)) {
+      return readMethods.get(propertyName);
+    }
+    Method readMethod = getProperty(propertyName, target).getReadMethod();
+    readMethods.put(propertyName, readMethod);
+    return readMethod;
+  }
+
+  private @Nonnull Map<String, Method> readMethodsOf(@Nonnull Class<?> type) {
+    Reference<Map<String, Method>> reference = readMethodsByType.get(type);
+    Map<String, Method> readMethods = reference == null ? null : reference.get();
+    if (readMethods == null) {
+      readMethods = new HashMap<String, Method>();
+      readMethodsByType.put(type, new SoftReference<Map<String, Method>>(readMethods));
+    }
+    return readMethods;
+  }
+}
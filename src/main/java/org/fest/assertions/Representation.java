@@ -0,0 +1,323 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.newSetFromMap;
+import static org.fest.util.Preconditions.checkNotNull;
+import static org.fest.util.Strings.quote;
+
+/**
+ * Converts values to the {@code String} representation used in failure messages. Arrays, {@code Collection}s and
+ * {@code Map}s are written element by element into a buffer of bounded length, so the representation of a huge value
+ * is never built in full. A representation caps:
+ * <ul>
+ * <li>the number of elements shown per array, {@code Collection} or {@code Map};</li>
+ * <li>the length of the representation of each element, including {@code String}s;</li>
+ * <li>how deep nested arrays, {@code Collection}s and {@code Map}s are shown;</li>
+ * <li>the total length of the representation.</li>
+ * </ul>
+ * Values that do not exceed any of these limits are represented as {@link org.fest.util.ToString#toStringOf(Object)}
+ * does. The representation used by all assertions can be changed with {@link #useRepresentation(Representation)}:
+ * <pre>
+ * Representation.useRepresentation(defaultRepresentation().withMaxElements(50));
+ * </pre>
+ *
+ * @since 1.5
+ */
+public final class Representation {
+  private static final String ELLIPSIS = "...";
+
+  private static final Representation DEFAULT = new Representation(1000, 10000, 10, 100000);
+
+  private static volatile Representation current = DEFAULT;
+
+  private final int maxElements;
+  private final int maxStringLength;
+  private final int maxDepth;
+  private final int maxLength;
+
+  private Representation(int maxElements, int maxStringLength, int maxDepth, int maxLength) {
+    this.maxElements = maxElements;
+    this.maxStringLength = maxStringLength;
+    this.maxDepth = maxDepth;
+    this.maxLength = maxLength;
+  }
+
+  /**
+   * Returns the default representation, which shows up to 1000 elements per group, 10000 characters per element,
+   * 10 levels of nesting and 100000 characters in total.
+   *
+   * @return the default representation.
+   */
+  public static @Nonnull Representation defaultRepresentation() {
+    return DEFAULT;
+  }
+
+  /**
+   * Returns the representation currently used in failure messages.
+   *
+   * @return the representation currently used in failure messages.
+   */
+  public static @Nonnull Representation currentRepresentation() {
+    return current;
+  }
+
+  /**
+   * Specifies the representation to use in failure messages.
+   *
+   * @param representation the representation to use.
+   * @throws NullPointerException if the given representation is {@code null}.
+   */
+  public static void useRepresentation(@Nonnull Representation representation) {
+    current = checkNotNull(representation);
+  }
+
+  /**
+   * Returns a copy of this representation that shows at most the given number of elements of each array,
+   * {@code Collection} or {@code Map}.
+   *
+   * @param newMaxElements the maximum number of elements to show.
+   * @return the created {@code Representation}.
+   * @throws IllegalArgumentException if the given number is not greater than zero.
+   */
+  public @Nonnull Representation withMaxElements(int newMaxElements) {
+    checkGreaterThanZero(newMaxElements, "The maximum number of elements should be greater than zero");
+    return new Representation(newMaxElements, maxStringLength, maxDepth, maxLength);
+  }
+
+  /**
+   * Returns a copy of this representation that shows at most the given number of characters of each value.
+   *
+   * @param newMaxStringLength the maximum number of characters to show per value.
+   * @return the created {@code Representation}.
+   * @throws IllegalArgumentException if the given number is not greater than zero.
+   */
+  public @Nonnull Representation withMaxStringLength(int newMaxStringLength) {
+    checkGreaterThanZero(newMaxStringLength, "The maximum length of a String should be greater than zero");
+    return new Representation(maxElements, newMaxStringLength, maxDepth, maxLength);
+  }
+
+  /**
+   * Returns a copy of this representation that shows arrays, {@code Collection}s and {@code Map}s nested at most the
+   * given number of levels deep.
+   *
+   * @param newMaxDepth the maximum number of nesting levels to show.
+   * @return the created {@code Representation}.
+   * @throws IllegalArgumentException if the given number is not greater than zero.
+   */
+  public @Nonnull Representation withMaxDepth(int newMaxDepth) {
+    checkGreaterThanZero(newMaxDepth, "The maximum depth should be greater than zero");
+    return new Representation(maxElements, maxStringLength, newMaxDepth, maxLength);
+  }
+
+  /**
+   * Returns a copy of this representation whose representations are at most the given number of characters long,
+   * not counting the trailing ellipsis added to truncated representations.
+   *
+   * @param newMaxLength the maximum length of a representation.
+   * @return the created {@code Representation}.
+   * @throws IllegalArgumentException if the given number is not greater than zero.
+   */
+  public @Nonnull Representation withMaxLength(int newMaxLength) {
+    checkGreaterThanZero(newMaxLength, "The maximum length should be greater than zero");
+    return new Representation(maxElements, maxStringLength, maxDepth, newMaxLength);
+  }
+
+  private static void checkGreaterThanZero(int value, @Nonnull String message) {
+    if (value <= 0) {
+      throw new IllegalArgumentException(message);
+    }
+  }
+
+  /**
+   * Returns the {@code String} representation of the given object.
+   *
+   * @param o the given object.
+   * @return the {@code String} representation of the given object, or {@code null} if the given object is
+   *         {@code null}.
+   */
+  public @Nullable String toStringOf(@Nullable Object o) {
+    if (o == null) {
+      return null;
+    }
+    BoundedBuffer buffer = new BoundedBuffer(maxLength);
+    Set<Object> path = newSetFromMap(new IdentityHashMap<Object, Boolean>());
+    append(buffer, o, 1, path);
+    return buffer.toString();
+  }
+
+  private void append(@Nonnull BoundedBuffer buffer, @Nullable Object o, int depth, @Nonnull Set<Object> path) {
+    if (o != null && o.getClass().isArray()) {
+      appendArray(buffer, o, depth, path);
+      return;
+    }
+    if (o instanceof Collection<?>) {
+      appendCollection(buffer, (Collection<?>) o, depth, path);
+      return;
+    }
+    if (o instanceof Map<?, ?>) {
+      appendMap(buffer, (Map<?, ?>) o, depth, path);
+      return;
+    }
+    if (o instanceof String) {
+      buffer.append(quote(truncate((String) o)));
+      return;
+    }
+    buffer.append(truncate(org.fest.util.ToString.toStringOf(o)));
+  }
+
+  private void appendArray(@Nonnull BoundedBuffer buffer, @Nonnull Object array, int depth, @Nonnull Set<Object> path) {
+    if (depth > maxDepth || path.contains(array)) {
+      buffer.append("[...]");
+      return;
+    }
+    path.add(array);
+    buffer.append("[");
+    int length = Array.getLength(array);
+    for (int i = 0; i < length && !buffer.isFull(); i++) {
+      if (i == maxElements) {
+        appendRemaining(buffer, length - i);
+        break;
+      }
+      if (i > 0) {
+        buffer.append(", ");
+      }
+      Object element = Array.get(array, i);
+      if (element == array) {
+        buffer.append("(this array)");
+        continue;
+      }
+      append(buffer, element, depth + 1, path);
+    }
+    buffer.append("]");
+    path.remove(array);
+  }
+
+  private void appendCollection(@Nonnull BoundedBuffer buffer, @Nonnull Collection<?> collection, int depth,
+                                @Nonnull Set<Object> path) {
+    if (depth > maxDepth || path.contains(collection)) {
+      buffer.append("[...]");
+      return;
+    }
+    path.add(collection);
+    buffer.append("[");
+    int i = 0;
+    for (Iterator<?> iterator = collection.iterator(); iterator.hasNext() && !buffer.isFull(); i++) {
+      if (i == maxElements) {
+        appendRemaining(buffer, collection.size() - i);
+        break;
+      }
+      if (i > 0) {
+        buffer.append(", ");
+      }
+      Object element = iterator.next();
+      if (element == collection) {
+        buffer.append("(this Collection)");
+        continue;
+      }
+      append(buffer, element, depth + 1, path);
+    }
+    buffer.append("]");
+    path.remove(collection);
+  }
+
+  private void appendMap(@Nonnull BoundedBuffer buffer, @Nonnull Map<?, ?> map, int depth, @Nonnull Set<Object> path) {
+    if (depth > maxDepth || path.contains(map)) {
+      buffer.append("{...}");
+      return;
+    }
+    path.add(map);
+    buffer.append("{");
+    int i = 0;
+    for (Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
+         iterator.hasNext() && !buffer.isFull(); i++) {
+      if (i == maxElements) {
+        appendRemaining(buffer, map.size() - i);
+        break;
+      }
+      if (i > 0) {
+        buffer.append(", ");
+      }
+      Map.Entry<?, ?> entry = iterator.next();
+      appendMapElement(buffer, map, entry.getKey(), depth, path);
+      buffer.append("=");
+      appendMapElement(buffer, map, entry.getValue(), depth, path);
+    }
+    buffer.append("}");
+    path.remove(map);
+  }
+
+  private void appendMapElement(@Nonnull BoundedBuffer buffer, @Nonnull Map<?, ?> map, @Nullable Object element,
+                                int depth, @Nonnull Set<Object> path) {
+    if (element == map) {
+      buffer.append("(this Map)");
+      return;
+    }
+    append(buffer, element, depth + 1, path);
+  }
+
+  private static void appendRemaining(@Nonnull BoundedBuffer buffer, int remaining) {
+    buffer.append(String.format(", ... (%d more)", remaining));
+  }
+
+  private @Nullable String truncate(@Nullable String s) {
+    if (s == null || s.length() <= maxStringLength) {
+      return s;
+    }
+    return s.substring(0, maxStringLength) + ELLIPSIS;
+  }
+
+  private static class BoundedBuffer {
+    private final StringBuilder buffer = new StringBuilder();
+    private final int maxLength;
+    private boolean truncated;
+
+    BoundedBuffer(int maxLength) {
+      this.maxLength = maxLength;
+    }
+
+    void append(@Nullable String s) {
+      if (truncated) {
+        return;
+      }
+      String text = String.valueOf(s);
+      int remaining = maxLength - buffer.length();
+      if (text.length() <= remaining) {
+        buffer.append(text);
+        return;
+      }
+      buffer.append(text, 0, remaining);
+      truncated = true;
+    }
+
+    boolean isFull() {
+      return truncated;
+    }
+
+    @Override
+    public String toString() {
+      return truncated ? buffer.toString() + ELLIPSIS : buffer.toString();
+    }
+  }
+}
@@ -18,7 +18,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Arrays;
 
-import static org.fest.assertions.ArrayInspection.copy;
 import static org.fest.assertions.ErrorMessages.unexpectedEqual;
 import static org.fest.assertions.ErrorMessages.unexpectedNotEqual;
 
@@ -50,7 +49,7 @@ public class ShortArrayAssert extends ArrayAssert<ShortArrayAssert, short[]> {
    * @throws AssertionError       if the actual {@code short} array does not contain the given values.
    */
   public @Nonnull ShortArrayAssert contains(@Nonnull short... values) {
-    assertContains(copy(values));
+    assertContains(PrimitiveArray.of(values));
     return this;
   }
 
@@ -65,7 +64,7 @@ public class ShortArrayAssert extends ArrayAssert<ShortArrayAssert, short[]> {
    *                              {@code short} array contains elements other than the ones specified.
    */
   public @Nonnull ShortArrayAssert containsOnly(@Nonnull short... values) {
-    assertContainsOnly(copy(values));
+    assertContainsOnly(PrimitiveArray.of(values));
     return this;
   }
 
@@ -79,7 +78,7 @@ public class ShortArrayAssert extends ArrayAssert<ShortArrayAssert, short[]> {
    * @throws AssertionError       if the actual {@code Object} array contains any of the given values.
    */
   public @Nonnull ShortArrayAssert excludes(short... values) {
-    assertExcludes(copy(values));
+    assertExcludes(PrimitiveArray.of(values));
     return this;
   }
 
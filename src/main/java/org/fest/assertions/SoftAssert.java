@@ -0,0 +1,334 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+
+/**
+ * Template for assertions run softly: each assertion is run by a {@link GenericAssert}, and a failed assertion is
+ * collected by a {@link SoftAssertions} instead of being thrown, so the following assertions in the chain still run. To
+ * create a new instance of a subclass invoke one of the {@code assertThat} methods of {@link SoftAssertions}:
+ * <pre>
+ * SoftAssertions softly = new SoftAssertions();
+ * softly.assertThat(person.name()).as("name").isEqualTo("Luke").startsWith("L");
+ * softly.assertThat(person.age()).as("age").isGreaterThan(18).isNotEqualTo(20);
+ * softly.assertAll();
+ * </pre>
+ *
+ * @param <S> used to simulate "self types." For more information please read &quot;<a href="http://goo.gl/fjgOM"
+ *            target="_blank">Emulating 'self types' using Java Generics to simplify fluent API
+ *            implementation</a>.&quot;
+ * @param <A> the type of the actual value.
+ * @since 1.5
+ */
+public abstract class SoftAssert<S, A> {
+  private final SoftAssertions collector;
+  private final GenericAssert<?, A> assertion;
+  private final S myself;
+
+  SoftAssert(@Nonnull Class<S> selfType, @Nonnull SoftAssertions collector, @Nonnull GenericAssert<?, A> assertion) {
+    this.collector = collector;
+    this.assertion = assertion;
+    myself = selfType.cast(this);
+  }
+
+  /**
+   * Sets the description of the actual value, to be used in as message of any failure.
+   *
+   * @param description the description of the actual value.
+   * @return this object.
+   */
+  public @Nonnull S as(@Nullable String description) {
+    assertion.as(description);
+    return myself;
+  }
+
+  /**
+   * Alias for {@link #as(String)}, since "as" is a keyword in <a href="http://groovy.codehaus.org/"
+   * target="_blank">Groovy</a>.
+   *
+   * @param description the description of the actual value.
+   * @return this object.
+   */
+  public @Nonnull S describedAs(@Nullable String description) {
+    return as(description);
+  }
+
+  /**
+   * Sets the description of the actual value, to be used in as message of any failure.
+   *
+   * @param description the description of the actual value.
+   * @return this object.
+   */
+  public @Nonnull S as(@Nullable Description description) {
+    assertion.as(description);
+    return myself;
+  }
+
+  /**
+   * Alias for {@link #as(Description)}, since "as" is a keyword in <a href="http://groovy.codehaus.org/"
+   * target="_blank">Groovy</a>.
+   *
+   * @param description the description of the actual value.
+   * @return this object.
+   */
+  public @Nonnull S describedAs(@Nullable Description description) {
+    return as(description);
+  }
+
+  /**
+   * Replaces the default message displayed in case of a failure with the given one.
+   *
+   * @param message the given error message, which will replace the default one.
+   * @return this object.
+   */
+  public @Nonnull S overridingErrorMessage(@Nullable String message) {
+    assertion.overridingErrorMessage(message);
+    return myself;
+  }
+
+  /**
+   * Replaces the default message displayed in case of a failure with the value of the given {@code Description}, which
+   * is only obtained if an assertion fails.
+   *
+   * @param message the given error message, which will replace the default one.
+   * @return this object.
+   */
+  public @Nonnull S overridingErrorMessageLazily(@Nullable Description message) {
+    assertion.overridingErrorMessageLazily(message);
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual value satisfies the given condition, collecting the failure if it does not.
+   *
+   * @param condition the given condition.
+   * @return this object.
+   * @see GenericAssert#satisfies(Condition)
+   */
+  public @Nonnull S satisfies(@Nonnull final Condition<A> condition) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.satisfies(condition);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual value does not satisfy the given condition, collecting the failure if it does.
+   *
+   * @param condition the given condition.
+   * @return this object.
+   * @see GenericAssert#doesNotSatisfy(Condition)
+   */
+  public @Nonnull S doesNotSatisfy(@Nonnull final Condition<A> condition) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.doesNotSatisfy(condition);
+      }
+    });
+  }
+
+  /**
+   * Alias for {@link #satisfies(Condition)}.
+   *
+   * @param condition the given condition.
+   * @return this object.
+   */
+  public @Nonnull S is(@Nonnull Condition<A> condition) {
+    return satisfies(condition);
+  }
+
+  /**
+   * Alias for {@link #doesNotSatisfy(Condition)}.
+   *
+   * @param condition the given condition.
+   * @return this object.
+   */
+  public @Nonnull S isNot(@Nonnull Condition<A> condition) {
+    return doesNotSatisfy(condition);
+  }
+
+  /**
+   * Verifies that the actual value is {@code null}, collecting the failure if it is not.
+   *
+   * @return this object.
+   * @see GenericAssert#isNull()
+   */
+  public @Nonnull S isNull() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNull();
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual value is not {@code null}, collecting the failure if it is.
+   *
+   * @return this object.
+   * @see GenericAssert#isNotNull()
+   */
+  public @Nonnull S isNotNull() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNotNull();
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual value is equal to the given one, collecting the failure if it is not.
+   *
+   * @param expected the given value to compare the actual value to.
+   * @return this object.
+   * @see GenericAssert#isEqualTo(Object)
+   */
+  public @Nonnull S isEqualTo(@Nullable final A expected) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isEqualTo(expected);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual value is not equal to the given one, collecting the failure if it is.
+   *
+   * @param other the given value to compare the actual value to.
+   * @return this object.
+   * @see GenericAssert#isNotEqualTo(Object)
+   */
+  public @Nonnull S isNotEqualTo(@Nullable final A other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNotEqualTo(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual value is the same as the given one, collecting the failure if it is not.
+   *
+   * @param expected the given value to compare the actual value to.
+   * @return this object.
+   * @see GenericAssert#isSameAs(Object)
+   */
+  public @Nonnull S isSameAs(@Nullable final A expected) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isSameAs(expected);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual value is not the same as the given one, collecting the failure if it is.
+   *
+   * @param other the given value to compare the actual value to.
+   * @return this object.
+   * @see GenericAssert#isNotSameAs(Object)
+   */
+  public @Nonnull S isNotSameAs(@Nullable final A other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNotSameAs(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual value is in the given values, collecting the failure if it is not.
+   *
+   * @param values the given values to search the actual value in.
+   * @return this object.
+   * @throws NullPointerException if the given parameter is {@code null}.
+   * @see GenericAssert#isIn(Object...)
+   */
+  public @Nonnull S isIn(@Nonnull final Object... values) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isIn(values);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual value is in the given collection, collecting the failure if it is not.
+   *
+   * @param values the given collection to search the actual value in.
+   * @return this object.
+   * @throws NullPointerException if the given collection is {@code null}.
+   * @see GenericAssert#isIn(Collection)
+   */
+  public @Nonnull S isIn(@Nonnull final Collection<?> values) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isIn(values);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual value is not in the given values, collecting the failure if it is.
+   *
+   * @param values the given values to search the actual value in.
+   * @return this object.
+   * @throws NullPointerException if the given parameter is {@code null}.
+   * @see GenericAssert#isNotIn(Object...)
+   */
+  public @Nonnull S isNotIn(@Nonnull final Object... values) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNotIn(values);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual value is not in the given collection, collecting the failure if it is.
+   *
+   * @param values the given collection to search the actual value in.
+   * @return this object.
+   * @throws NullPointerException if the given collection is {@code null}.
+   * @see GenericAssert#isNotIn(Collection)
+   */
+  public @Nonnull S isNotIn(@Nonnull final Collection<?> values) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNotIn(values);
+      }
+    });
+  }
+
+  final @Nonnull S check(@Nonnull Runnable block) {
+    collector.check(block);
+    return myself;
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.fest.assertions.Fail.failure;
+import static org.fest.assertions.Fail.useStackTraceModeInCurrentThread;
+import static org.fest.assertions.StackTraceMode.NONE;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Collects the failures of several assertions and reports all of them together, instead of stopping at the first one.
+ * Each assertion that fails is collected and the following ones still run:
+ * <pre>
+ * SoftAssertions softly = new SoftAssertions();
+ * softly.assertThat(response.status()).as("status").isGreaterThanOrEqualTo(200).isLessThan(300);
+ * softly.assertThat(response.headers()).as("headers").hasSize(2).includes(entry("Content-Type", "text/plain"));
+ * softly.assertThat(response.body()).as("body").isEqualTo("Hello");
+ * softly.assertAll();
+ * </pre>
+ * The {@code assertThat} methods of this class cover {@code Object}s, {@code String}s, {@code boolean}s, {@code int}s,
+ * {@code long}s, {@code double}s, {@code Collection}s, {@code List}s and {@code Map}s. Assertions on other types are
+ * written as regular assertions in a block passed to {@link #check(Runnable)}; the first failure in a block ends that
+ * block only:
+ * <pre>
+ * softly.check(new Runnable() {
+ *   public void run() {
+ *     assertThat(response.date()).isAfter(yesterday);
+ *   }
+ * });
+ * </pre>
+ * <p/>
+ * By default, the failures collected do not have a stack trace, since a failure is identified by its message. Use
+ * {@link #capturingStackTraces()} to keep them. The message of each failure is built when its check fails, as for
+ * regular assertions: only the report of all failures is built later, by {@link #assertAll()}, and only if any check
+ * failed.
+ * <p/>
+ * Instances of this class are not thread-safe. Use {@link ConcurrentSoftAssertions} to run checks from several threads.
+ *
+ * @since 1.5
+ */
+public class SoftAssertions {
+  private final List<AssertionError> errors = newArrayList();
+  private volatile boolean captureStackTraces;
+
+  /**
+   * Makes the failures collected from now on keep their stack trace, as specified by the current
+   * {@link StackTraceMode}.
+   *
+   * @return this object.
+   */
+  public @Nonnull SoftAssertions capturingStackTraces() {
+    captureStackTraces = true;
+    return this;
+  }
+
+  /**
+   * Runs the assertions in the given block, collecting the {@code AssertionError} thrown by the first one that fails.
+   * Any other exception thrown by the block is not caught.
+   *
+   * @param assertions the block of assertions to run.
+   * @return this object.
+   * @throws NullPointerException if the given block is {@code null}.
+   */
+  public @Nonnull SoftAssertions check(@Nonnull Runnable assertions) {
+    checkNotNull(assertions);
+    StackTraceMode previous = useStackTraceModeInCurrentThread(captureStackTraces ? null : NONE);
+    try {
+      assertions.run();
+    } catch (AssertionError e) {
+      record(e);
+    } finally {
+      useStackTraceModeInCurrentThread(previous);
+    }
+    return this;
+  }
+
+  /**
+   * Creates a new {@link SoftObjectAssert} whose failures are collected by this object.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public @Nonnull SoftObjectAssert assertThat(@Nullable Object actual) {
+    return new SoftObjectAssert(this, Assertions.assertThat(actual));
+  }
+
+  /**
+   * Creates a new {@link SoftStringAssert} whose failures are collected by this object.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public @Nonnull SoftStringAssert assertThat(@Nullable String actual) {
+    return new SoftStringAssert(this, Assertions.assertThat(actual));
+  }
+
+  /**
+   * Creates a new {@link SoftBooleanAssert} whose failures are collected by this object.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public @Nonnull SoftBooleanAssert assertThat(boolean actual) {
+    return new SoftBooleanAssert(this, Assertions.assertThat(actual));
+  }
+
+  /**
+   * Creates a new {@link SoftIntAssert} whose failures are collected by this object.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public @Nonnull SoftIntAssert assertThat(int actual) {
+    return new SoftIntAssert(this, Assertions.assertThat(actual));
+  }
+
+  /**
+   * Creates a new {@link SoftLongAssert} whose failures are collected by this object.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public @Nonnull SoftLongAssert assertThat(long actual) {
+    return new SoftLongAssert(this, Assertions.assertThat(actual));
+  }
+
+  /**
+   * Creates a new {@link SoftDoubleAssert} whose failures are collected by this object.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public @Nonnull SoftDoubleAssert assertThat(double actual) {
+    return new SoftDoubleAssert(this, Assertions.assertThat(actual));
+  }
+
+  /**
+   * Creates a new {@link SoftCollectionAssert} whose failures are collected by this object.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public @Nonnull SoftCollectionAssert assertThat(@Nullable Collection<?> actual) {
+    return new SoftCollectionAssert(this, Assertions.assertThat(actual));
+  }
+
+  /**
+   * Creates a new {@link SoftListAssert} whose failures are collected by this object.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public @Nonnull SoftListAssert assertThat(@Nullable List<?> actual) {
+    return new SoftListAssert(this, Assertions.assertThat(actual));
+  }
+
+  /**
+   * Creates a new {@link SoftMapAssert} whose failures are collected by this object.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  public @Nonnull SoftMapAssert assertThat(@Nullable Map<?, ?> actual) {
+    return new SoftMapAssert(this, Assertions.assertThat(actual));
+  }
+
+  void record(@Nonnull AssertionError error) {
+    errors.add(error);
+  }
+
+  /**
+   * Returns the failures collected so far, in the order they happened.
+   *
+   * @return the failures collected so far.
+   */
+  public @Nonnull List<AssertionError> errors() {
+    return newArrayList(errors);
+  }
+
+  /**
+   * Verifies that none of the checks failed.
+   *
+   * @throws AssertionError listing the messages of all the failures collected, if any.
+   */
+  public void assertAll() {
+    List<AssertionError> collected = errors();
+    if (collected.isEmpty()) {
+      return;
+    }
+    throw failure(report(collected));
+  }
+
+  static @Nonnull String report(@Nonnull List<AssertionError> errors) {
+    int count = errors.size();
+    StringBuilder b = new StringBuilder();
+    b.append(String.format("%d %s failed:", count, count == 1 ? "assertion" : "assertions"));
+    for (int i = 0; i < count; i++) {
+      b.append(String.format("%n%d) %s", i + 1, errors.get(i).getMessage()));
+    }
+    return b.toString();
+  }
+}
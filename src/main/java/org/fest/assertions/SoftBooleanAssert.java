@@ -0,0 +1,96 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Assertions for {@code boolean}s, run softly: a failed assertion is collected by a {@link SoftAssertions} instead
+ * of being thrown.
+ * <p/>
+ * To create a new instance of this class invoke {@link SoftAssertions#assertThat(boolean)}.
+ *
+ * @since 1.5
+ */
+public class SoftBooleanAssert extends SoftAssert<SoftBooleanAssert, Boolean> {
+  private final BooleanAssert assertion;
+
+  SoftBooleanAssert(@Nonnull SoftAssertions collector, @Nonnull BooleanAssert assertion) {
+    super(SoftBooleanAssert.class, collector, assertion);
+    this.assertion = assertion;
+  }
+
+  /**
+   * Verifies that the actual {@code Boolean} value is {@code true}.
+   *
+   * @return this object.
+   * @see BooleanAssert#isTrue()
+   */
+  public @Nonnull SoftBooleanAssert isTrue() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isTrue();
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Boolean} value is {@code false}.
+   *
+   * @return this object.
+   * @see BooleanAssert#isFalse()
+   */
+  public @Nonnull SoftBooleanAssert isFalse() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isFalse();
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Boolean} is equal to the given one.
+   *
+   * @param expected the given {@code boolean} to compare the actual {@code Boolean} to.
+   * @return this object.
+   * @see BooleanAssert#isEqualTo(boolean)
+   */
+  public @Nonnull SoftBooleanAssert isEqualTo(final boolean expected) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isEqualTo(expected);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Boolean} is not equal to the given one.
+   *
+   * @param other the given {@code boolean} to compare the actual {@code Boolean} to.
+   * @return this object.
+   * @see BooleanAssert#isNotEqualTo(boolean)
+   */
+  public @Nonnull SoftBooleanAssert isNotEqualTo(final boolean other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNotEqualTo(other);
+      }
+    });
+  }
+}
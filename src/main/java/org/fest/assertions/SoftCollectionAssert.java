@@ -0,0 +1,52 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+
+/**
+ * Assertions for {@code Collection}s, run softly: a failed assertion is collected by a {@link SoftAssertions}
+ * instead of being thrown.
+ * <p/>
+ * To create a new instance of this class invoke {@link SoftAssertions#assertThat(Collection)}.
+ *
+ * @since 1.5
+ */
+public class SoftCollectionAssert extends SoftObjectGroupAssert<SoftCollectionAssert, Collection<?>> {
+  private final CollectionAssert assertion;
+
+  SoftCollectionAssert(@Nonnull SoftAssertions collector, @Nonnull CollectionAssert assertion) {
+    super(SoftCollectionAssert.class, collector, assertion);
+    this.assertion = assertion;
+  }
+
+  /**
+   * Verifies that the actual collection contains the given objects, and nothing else, in any order.
+   *
+   * @param objects the objects to look for.
+   * @return this object.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @see CollectionAssert#containsExactlyInAnyOrder(Object...)
+   */
+  public @Nonnull SoftCollectionAssert containsExactlyInAnyOrder(@Nonnull final Object... objects) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.containsExactlyInAnyOrder(objects);
+      }
+    });
+  }
+}
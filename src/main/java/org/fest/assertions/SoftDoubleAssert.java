@@ -0,0 +1,225 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Assertions for {@code double}s, run softly: a failed assertion is collected by a {@link SoftAssertions} instead
+ * of being thrown.
+ * <p/>
+ * To create a new instance of this class invoke {@link SoftAssertions#assertThat(double)}.
+ *
+ * @since 1.5
+ */
+public class SoftDoubleAssert extends SoftAssert<SoftDoubleAssert, Double> {
+  private final DoubleAssert assertion;
+
+  SoftDoubleAssert(@Nonnull SoftAssertions collector, @Nonnull DoubleAssert assertion) {
+    super(SoftDoubleAssert.class, collector, assertion);
+    this.assertion = assertion;
+  }
+
+  /**
+   * Verifies that the actual {@code Double} is equal to the given one.
+   *
+   * @param expected the value to compare the actual one to.
+   * @return this object.
+   * @see DoubleAssert#isEqualTo(double)
+   */
+  public @Nonnull SoftDoubleAssert isEqualTo(final double expected) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isEqualTo(expected);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Double} is equal to the given one, within a positive delta.
+   *
+   * @param expected the value to compare the actual one to.
+   * @param delta    the given delta.
+   * @return this object.
+   * @see DoubleAssert#isEqualTo(double, Delta)
+   */
+  public @Nonnull SoftDoubleAssert isEqualTo(final double expected, final Delta delta) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isEqualTo(expected, delta);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Double} is equal to the given one, within a positive delta.
+   *
+   * @param expected the value to compare the actual one to.
+   * @param delta    the given delta.
+   * @return this object.
+   * @see DoubleAssert#isEqualTo(Double, Delta)
+   */
+  public @Nonnull SoftDoubleAssert isEqualTo(@Nullable final Double expected, @Nonnull final Delta delta) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isEqualTo(expected, delta);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Double} is not equal to the given one.
+   *
+   * @param other the given value.
+   * @return this object.
+   * @see DoubleAssert#isNotEqualTo(double)
+   */
+  public @Nonnull SoftDoubleAssert isNotEqualTo(final double other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNotEqualTo(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Double} is greater than the given one.
+   *
+   * @param other the given value.
+   * @return this object.
+   * @see DoubleAssert#isGreaterThan(double)
+   */
+  public @Nonnull SoftDoubleAssert isGreaterThan(final double other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isGreaterThan(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Double} is less than the given one.
+   *
+   * @param other the given value.
+   * @return this object.
+   * @see DoubleAssert#isLessThan(double)
+   */
+  public @Nonnull SoftDoubleAssert isLessThan(final double other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isLessThan(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Double} is greater or equal to the given one.
+   *
+   * @param other the given value.
+   * @return this object.
+   * @see DoubleAssert#isGreaterThanOrEqualTo(double)
+   */
+  public @Nonnull SoftDoubleAssert isGreaterThanOrEqualTo(final double other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isGreaterThanOrEqualTo(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Double} is less or equal to the given one.
+   *
+   * @param other the given value.
+   * @return this object.
+   * @see DoubleAssert#isLessThanOrEqualTo(double)
+   */
+  public @Nonnull SoftDoubleAssert isLessThanOrEqualTo(final double other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isLessThanOrEqualTo(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Double} is equal to zero.
+   *
+   * @return this object.
+   * @see DoubleAssert#isZero()
+   */
+  public @Nonnull SoftDoubleAssert isZero() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isZero();
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Double} is positive.
+   *
+   * @return this object.
+   * @see DoubleAssert#isPositive()
+   */
+  public @Nonnull SoftDoubleAssert isPositive() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isPositive();
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Double} is negative.
+   *
+   * @return this object.
+   * @see DoubleAssert#isNegative()
+   */
+  public @Nonnull SoftDoubleAssert isNegative() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNegative();
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Double} is equal to {@link Double#NaN}.
+   *
+   * @return this object.
+   * @see DoubleAssert#isNaN()
+   */
+  public @Nonnull SoftDoubleAssert isNaN() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNaN();
+      }
+    });
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Template for assertions run softly on classes representing groups of values.
+ *
+ * @param <S> used to simulate "self types." For more information please read &quot;<a href="http://goo.gl/fjgOM"
+ *            target="_blank">Emulating 'self types' using Java Generics to simplify fluent API
+ *            implementation</a>.&quot;
+ * @param <A> the type of the actual value.
+ * @since 1.5
+ */
+public abstract class SoftGroupAssert<S, A> extends SoftAssert<S, A> {
+  private final GroupAssert<?, A> assertion;
+
+  SoftGroupAssert(@Nonnull Class<S> selfType, @Nonnull SoftAssertions collector, @Nonnull GroupAssert<?, A> assertion) {
+    super(selfType, collector, assertion);
+    this.assertion = assertion;
+  }
+
+  /**
+   * Verifies that the actual group of values is {@code null} or empty.
+   *
+   * @return this object.
+   * @see GroupAssert#isNullOrEmpty()
+   */
+  public @Nonnull S isNullOrEmpty() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNullOrEmpty();
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual group of values is empty.
+   *
+   * @return this object.
+   * @see GroupAssert#isEmpty()
+   */
+  public @Nonnull S isEmpty() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isEmpty();
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual group contains at least on value.
+   *
+   * @return this object.
+   * @see GroupAssert#isNotEmpty()
+   */
+  public @Nonnull S isNotEmpty() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNotEmpty();
+      }
+    });
+  }
+
+  /**
+   * Verifies that the number of values in the actual group is equal to the given one.
+   *
+   * @param expected the expected number of values in the actual group.
+   * @return this object.
+   * @see GroupAssert#hasSize(int)
+   */
+  public @Nonnull S hasSize(final int expected) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.hasSize(expected);
+      }
+    });
+  }
+}
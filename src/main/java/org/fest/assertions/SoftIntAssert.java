@@ -0,0 +1,175 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Assertions for {@code int}s, run softly: a failed assertion is collected by a {@link SoftAssertions} instead of
+ * being thrown.
+ * <p/>
+ * To create a new instance of this class invoke {@link SoftAssertions#assertThat(int)}.
+ *
+ * @since 1.5
+ */
+public class SoftIntAssert extends SoftAssert<SoftIntAssert, Integer> {
+  private final IntAssert assertion;
+
+  SoftIntAssert(@Nonnull SoftAssertions collector, @Nonnull IntAssert assertion) {
+    super(SoftIntAssert.class, collector, assertion);
+    this.assertion = assertion;
+  }
+
+  /**
+   * Verifies that the actual {@code Integer} is equal to the given one.
+   *
+   * @param expected the value to compare the actual one to.
+   * @return this object.
+   * @see IntAssert#isEqualTo(int)
+   */
+  public @Nonnull SoftIntAssert isEqualTo(final int expected) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isEqualTo(expected);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Integer} is not equal to the given one.
+   *
+   * @param other the given value.
+   * @return this object.
+   * @see IntAssert#isNotEqualTo(int)
+   */
+  public @Nonnull SoftIntAssert isNotEqualTo(final int other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNotEqualTo(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Integer} is greater than the given one.
+   *
+   * @param other the given value.
+   * @return this object.
+   * @see IntAssert#isGreaterThan(int)
+   */
+  public @Nonnull SoftIntAssert isGreaterThan(final int other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isGreaterThan(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Integer} is less than the given one.
+   *
+   * @param other the given value.
+   * @return this object.
+   * @see IntAssert#isLessThan(int)
+   */
+  public @Nonnull SoftIntAssert isLessThan(final int other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isLessThan(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Integer} is greater or equal to the given one.
+   *
+   * @param other the given value.
+   * @return this object.
+   * @see IntAssert#isGreaterThanOrEqualTo(int)
+   */
+  public @Nonnull SoftIntAssert isGreaterThanOrEqualTo(final int other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isGreaterThanOrEqualTo(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Integer} is less or equal to the given one.
+   *
+   * @param other the given value.
+   * @return this object.
+   * @see IntAssert#isLessThanOrEqualTo(int)
+   */
+  public @Nonnull SoftIntAssert isLessThanOrEqualTo(final int other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isLessThanOrEqualTo(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Integer} is equal to zero.
+   *
+   * @return this object.
+   * @see IntAssert#isZero()
+   */
+  public @Nonnull SoftIntAssert isZero() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isZero();
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Integer} is positive.
+   *
+   * @return this object.
+   * @see IntAssert#isPositive()
+   */
+  public @Nonnull SoftIntAssert isPositive() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isPositive();
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Integer} is negative.
+   *
+   * @return this object.
+   * @see IntAssert#isNegative()
+   */
+  public @Nonnull SoftIntAssert isNegative() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNegative();
+      }
+    });
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Assertions for {@code List}s, run softly: a failed assertion is collected by a {@link SoftAssertions} instead of
+ * being thrown.
+ * <p/>
+ * To create a new instance of this class invoke {@link SoftAssertions#assertThat(List)}.
+ *
+ * @since 1.5
+ */
+public class SoftListAssert extends SoftObjectGroupAssert<SoftListAssert, List<?>> {
+  private final ListAssert assertion;
+
+  SoftListAssert(@Nonnull SoftAssertions collector, @Nonnull ListAssert assertion) {
+    super(SoftListAssert.class, collector, assertion);
+    this.assertion = assertion;
+  }
+
+  /**
+   * Verifies that the actual {@code List} contains the given object at the given index.
+   *
+   * @param o     the object to look for.
+   * @param index the index where the object should be stored in the actual {@code List}.
+   * @return this object.
+   * @throws NullPointerException      if the given {@code Index} is {@code null}.
+   * @throws IndexOutOfBoundsException if the value of the given {@code Index} is negative, or equal to or greater than
+   *                                   the size of the actual {@code List}.
+   * @see ListAssert#contains(Object, Index)
+   */
+  public @Nonnull SoftListAssert contains(@Nullable final Object o, @Nonnull final Index index) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.contains(o, index);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code List} contains the given sequence of objects, without any other objects between
+   * them.
+   *
+   * @param sequence the sequence of objects to look for.
+   * @return this object.
+   * @see ListAssert#containsSequence(Object...)
+   */
+  public @Nonnull SoftListAssert containsSequence(@Nonnull final Object... sequence) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.containsSequence(sequence);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code List} starts with the given sequence of objects, without any other objects between
+   * them.
+   *
+   * @param sequence the sequence of objects to look for.
+   * @return this object.
+   * @see ListAssert#startsWith(Object...)
+   */
+  public @Nonnull SoftListAssert startsWith(@Nonnull final Object... sequence) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.startsWith(sequence);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code List} ends with the given sequence of objects, without any other objects between
+   * them.
+   *
+   * @param sequence the sequence of objects to look for.
+   * @return this object.
+   * @see ListAssert#endsWith(Object...)
+   */
+  public @Nonnull SoftListAssert endsWith(@Nonnull final Object... sequence) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.endsWith(sequence);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code List} contains the given objects, in the same order.
+   *
+   * @param objects the objects to look for.
+   * @return this object.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @see ListAssert#containsExactly(Object...)
+   */
+  public @Nonnull SoftListAssert containsExactly(@Nonnull final Object... objects) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.containsExactly(objects);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code List} contains the given objects, and nothing else, in any order.
+   *
+   * @param objects the objects to look for.
+   * @return this object.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @see ListAssert#containsExactlyInAnyOrder(Object...)
+   */
+  public @Nonnull SoftListAssert containsExactlyInAnyOrder(@Nonnull final Object... objects) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.containsExactlyInAnyOrder(objects);
+      }
+    });
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Assertions for {@code long}s, run softly: a failed assertion is collected by a {@link SoftAssertions} instead of
+ * being thrown.
+ * <p/>
+ * To create a new instance of this class invoke {@link SoftAssertions#assertThat(long)}.
+ *
+ * @since 1.5
+ */
+public class SoftLongAssert extends SoftAssert<SoftLongAssert, Long> {
+  private final LongAssert assertion;
+
+  SoftLongAssert(@Nonnull SoftAssertions collector, @Nonnull LongAssert assertion) {
+    super(SoftLongAssert.class, collector, assertion);
+    this.assertion = assertion;
+  }
+
+  /**
+   * Verifies that the actual {@code Long} is equal to the given one.
+   *
+   * @param expected the value to compare the actual one to.
+   * @return this object.
+   * @see LongAssert#isEqualTo(long)
+   */
+  public @Nonnull SoftLongAssert isEqualTo(final long expected) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isEqualTo(expected);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Long} is not equal to the given one.
+   *
+   * @param other the given value.
+   * @return this object.
+   * @see LongAssert#isNotEqualTo(long)
+   */
+  public @Nonnull SoftLongAssert isNotEqualTo(final long other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNotEqualTo(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Long} is greater than the given one.
+   *
+   * @param other the given value.
+   * @return this object.
+   * @see LongAssert#isGreaterThan(long)
+   */
+  public @Nonnull SoftLongAssert isGreaterThan(final long other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isGreaterThan(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Long} is less than the given one.
+   *
+   * @param other the given value.
+   * @return this object.
+   * @see LongAssert#isLessThan(long)
+   */
+  public @Nonnull SoftLongAssert isLessThan(final long other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isLessThan(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Long} is greater or equal to the given one.
+   *
+   * @param other the given value.
+   * @return this object.
+   * @see LongAssert#isGreaterThanOrEqualTo(long)
+   */
+  public @Nonnull SoftLongAssert isGreaterThanOrEqualTo(final long other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isGreaterThanOrEqualTo(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Long} is less or equal to the given one.
+   *
+   * @param other the given value.
+   * @return this object.
+   * @see LongAssert#isLessThanOrEqualTo(long)
+   */
+  public @Nonnull SoftLongAssert isLessThanOrEqualTo(final long other) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isLessThanOrEqualTo(other);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Long} is equal to zero.
+   *
+   * @return this object.
+   * @see LongAssert#isZero()
+   */
+  public @Nonnull SoftLongAssert isZero() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isZero();
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Long} is positive.
+   *
+   * @return this object.
+   * @see LongAssert#isPositive()
+   */
+  public @Nonnull SoftLongAssert isPositive() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isPositive();
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Long} is negative.
+   *
+   * @return this object.
+   * @see LongAssert#isNegative()
+   */
+  public @Nonnull SoftLongAssert isNegative() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isNegative();
+      }
+    });
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.assertions.MapAssert.Entry;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+
+/**
+ * Assertions for {@code Map}s, run softly: a failed assertion is collected by a {@link SoftAssertions} instead of
+ * being thrown.
+ * <p/>
+ * To create a new instance of this class invoke {@link SoftAssertions#assertThat(Map)}.
+ *
+ * @since 1.5
+ */
+public class SoftMapAssert extends SoftGroupAssert<SoftMapAssert, Map<?, ?>> {
+  private final MapAssert assertion;
+
+  SoftMapAssert(@Nonnull SoftAssertions collector, @Nonnull MapAssert assertion) {
+    super(SoftMapAssert.class, collector, assertion);
+    this.assertion = assertion;
+  }
+
+  /**
+   * Verifies that the actual {@code Map} contains the given entries.
+   *
+   * @param entries the given entries.
+   * @return this object.
+   * @throws NullPointerException if the given array of entries is {@code null}.
+   * @throws NullPointerException if any of the entries in the given array is {@code null}.
+   * @see MapAssert#includes(Entry...)
+   */
+  public @Nonnull SoftMapAssert includes(@Nonnull final Entry... entries) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.includes(entries);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Map} does not contain the given entries.
+   *
+   * @param entries the given entries.
+   * @return this object.
+   * @throws NullPointerException if the given array of entries is {@code null}.
+   * @throws NullPointerException if any of the entries in the given array is {@code null}.
+   * @see MapAssert#excludes(Entry...)
+   */
+  public @Nonnull SoftMapAssert excludes(@Nonnull final Entry... entries) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.excludes(entries);
+      }
+    });
+  }
+}
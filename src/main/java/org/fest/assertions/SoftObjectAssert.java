@@ -0,0 +1,69 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Assertions for {@code Object}s, run softly: a failed assertion is collected by a {@link SoftAssertions} instead
+ * of being thrown.
+ * <p/>
+ * To create a new instance of this class invoke {@link SoftAssertions#assertThat(Object)}.
+ *
+ * @since 1.5
+ */
+public class SoftObjectAssert extends SoftAssert<SoftObjectAssert, Object> {
+  private final ObjectAssert assertion;
+
+  SoftObjectAssert(@Nonnull SoftAssertions collector, @Nonnull ObjectAssert assertion) {
+    super(SoftObjectAssert.class, collector, assertion);
+    this.assertion = assertion;
+  }
+
+  /**
+   * Verifies that the actual {@code Object} is an instance of the given type.
+   *
+   * @param type the type to check the actual {@code Object} against.
+   * @return this object.
+   * @throws NullPointerException if the given type is {@code null}.
+   * @see ObjectAssert#isInstanceOf(Class)
+   */
+  public @Nonnull SoftObjectAssert isInstanceOf(@Nonnull final Class<?> type) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isInstanceOf(type);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code Object} is an instance of any of the given types.
+   *
+   * @param types the types to check the actual {@code Object} against.
+   * @return this object.
+   * @throws NullPointerException if the given array of types is {@code null}.
+   * @throws NullPointerException if the given array of types contains {@code null}s.
+   * @see ObjectAssert#isInstanceOfAny(Class...)
+   */
+  public @Nonnull SoftObjectAssert isInstanceOfAny(@Nonnull final Class<?>... types) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isInstanceOfAny(types);
+      }
+    });
+  }
+}
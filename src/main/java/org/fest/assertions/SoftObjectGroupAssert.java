@@ -0,0 +1,102 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Template for assertions run softly on collections.
+ *
+ * @param <S> used to simulate "self types." For more information please read &quot;<a href="http://goo.gl/fjgOM"
+ *            target="_blank">Emulating 'self types' using Java Generics to simplify fluent API
+ *            implementation</a>.&quot;
+ * @param <A> the type of the actual value.
+ * @since 1.5
+ */
+public abstract class SoftObjectGroupAssert<S, A> extends SoftGroupAssert<S, A> {
+  private final ObjectGroupAssert<?, A> assertion;
+
+  SoftObjectGroupAssert(@Nonnull Class<S> selfType, @Nonnull SoftAssertions collector,
+                        @Nonnull ObjectGroupAssert<?, A> assertion) {
+    super(selfType, collector, assertion);
+    this.assertion = assertion;
+  }
+
+  /**
+   * Verifies that the actual group of objects contains the given objects.
+   *
+   * @param objects the objects to look for.
+   * @return this object.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @see ObjectGroupAssert#contains(Object...)
+   */
+  public @Nonnull S contains(@Nonnull final Object... objects) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.contains(objects);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual group of objects contains the given objects <strong>only</strong>, in any order.
+   *
+   * @param objects the objects to look for.
+   * @return this object.
+   * @throws NullPointerException if the given group of objects is {@code null}.
+   * @see ObjectGroupAssert#containsOnly(Object...)
+   */
+  public @Nonnull S containsOnly(@Nonnull final Object... objects) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.containsOnly(objects);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual group of objects does not contain the given objects.
+   *
+   * @param objects the objects that the group of objects should exclude.
+   * @return this object.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @see ObjectGroupAssert#excludes(Object...)
+   */
+  public @Nonnull S excludes(@Nonnull final Object... objects) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.excludes(objects);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual group of objects does not have duplicates.
+   *
+   * @return this object.
+   * @see ObjectGroupAssert#doesNotHaveDuplicates()
+   */
+  public @Nonnull S doesNotHaveDuplicates() {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.doesNotHaveDuplicates();
+      }
+    });
+  }
+}
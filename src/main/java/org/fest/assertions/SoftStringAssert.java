@@ -0,0 +1,180 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Assertions for {@code String}s, run softly: a failed assertion is collected by a {@link SoftAssertions} instead
+ * of being thrown.
+ * <p/>
+ * To create a new instance of this class invoke {@link SoftAssertions#assertThat(String)}.
+ *
+ * @since 1.5
+ */
+public class SoftStringAssert extends SoftGroupAssert<SoftStringAssert, String> {
+  private final StringAssert assertion;
+
+  SoftStringAssert(@Nonnull SoftAssertions collector, @Nonnull StringAssert assertion) {
+    super(SoftStringAssert.class, collector, assertion);
+    this.assertion = assertion;
+  }
+
+  /**
+   * Verifies that the actual {@code String} is equal to the given one ignoring case.
+   *
+   * @param expected the given {@code String} to compare the actual {@code String} to.
+   * @return this object.
+   * @see StringAssert#isEqualToIgnoringCase(String)
+   */
+  public @Nonnull SoftStringAssert isEqualToIgnoringCase(final String expected) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.isEqualToIgnoringCase(expected);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code String} contains the given one.
+   *
+   * @param expected the given {@code String} expected to be contained in the actual one.
+   * @return this object.
+   * @see StringAssert#contains(String)
+   */
+  public @Nonnull SoftStringAssert contains(final String expected) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.contains(expected);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code String} ends with the given one.
+   *
+   * @param expected the given {@code String} expected to be at the end of the actual one.
+   * @return this object.
+   * @see StringAssert#endsWith(String)
+   */
+  public @Nonnull SoftStringAssert endsWith(final String expected) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.endsWith(expected);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code String} starts with the given one.
+   *
+   * @param expected the given {@code String} expected to be at the beginning of the actual one.
+   * @return this object.
+   * @see StringAssert#startsWith(String)
+   */
+  public @Nonnull SoftStringAssert startsWith(final String expected) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.startsWith(expected);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code String} does not contains the given one.
+   *
+   * @param s the given {@code String} expected not to be contained in the actual one.
+   * @return this object.
+   * @see StringAssert#excludes(String)
+   */
+  public @Nonnull SoftStringAssert excludes(final String s) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.excludes(s);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code String} matches the given one.
+   *
+   * @param regex the given regular expression expected to be matched by the actual one.
+   * @return this object.
+   * @see StringAssert#matches(String)
+   */
+  public @Nonnull SoftStringAssert matches(final String regex) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.matches(regex);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code String} does not match the given one.
+   *
+   * @param regex the given regular expression expected not to be matched by the actual one.
+   * @return this object.
+   * @see StringAssert#doesNotMatch(String)
+   */
+  public @Nonnull SoftStringAssert doesNotMatch(final String regex) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.doesNotMatch(regex);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code String} contains the given text regardless of the case.
+   *
+   * @param text the given text.
+   * @return this object.
+   * @throws NullPointerException if the given {@code String} is {@code null}.
+   * @see StringAssert#containsIgnoringCase(String)
+   */
+  public @Nonnull SoftStringAssert containsIgnoringCase(@Nonnull final String text) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.containsIgnoringCase(text);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual {@code String} does not contain the given text.
+   *
+   * @param text the given text.
+   * @return this object.
+   * @throws NullPointerException if the given {@code String} is {@code null}.
+   * @see StringAssert#doesNotContain(String)
+   */
+  public @Nonnull SoftStringAssert doesNotContain(@Nonnull final String text) {
+    return check(new Runnable() {
+      @Override
+      public void run() {
+        assertion.doesNotContain(text);
+      }
+    });
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.net.URL;
+import java.security.CodeSource;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Arrays.copyOfRange;
+import static org.fest.util.Objects.areEqual;
+
+/**
+ * Specifies how much of the stack trace is captured by the {@code AssertionError}s thrown by failed assertions,
+ * including JUnit's {@code ComparisonFailure}s. Use {@link Fail#useStackTraceMode(StackTraceMode)} to change it.
+ * <p/>
+ * Capturing stack traces is the most expensive part of creating a failure. Code that expects assertions to fail and
+ * catches the failures, like a search for a minimal failing input, can use {@link #NONE} to avoid that cost.
+ *
+ * @since 1.5
+ */
+public enum StackTraceMode {
+  /**
+   * Failures have the full stack trace, as any other exception. This is the default.
+   */
+  FULL {
+    @Override
+    @Nonnull AssertionError newAssertionError(@Nullable String message) {
+      return new AssertionError(message);
+    }
+
+    @Override
+    @Nonnull <T extends Throwable> T applyTo(@Nonnull T failure) {
+      return failure;
+    }
+  },
+
+  /**
+   * Failures have a stack trace that starts at the caller of the assertion: the frames of FEST-Assert classes at the
+   * top of the stack trace, and the reflection frames between them, are removed. Callers in the
+   * {@code org.fest.assertions} package, like tests, are kept.
+   */
+  TRIMMED {
+    @Override
+    @Nonnull AssertionError newAssertionError(@Nullable String message) {
+      return applyTo(new AssertionError(message));
+    }
+
+    @Override
+    @Nonnull <T extends Throwable> T applyTo(@Nonnull T failure) {
+      StackTraceElement[] stackTrace = failure.getStackTrace();
+      int start = 0;
+      for (int i = 0; i < stackTrace.length; i++) {
+        String className = stackTrace[i].getClassName();
+        if (isLibraryClass(className)) {
+          start = i + 1;
+        } else if (!isReflectionClass(className)) {
+          break;
+        }
+      }
+      if (start > 0 && start < stackTrace.length) {
+        failure.setStackTrace(copyOfRange(stackTrace, start, stackTrace.length));
+      }
+      return failure;
+    }
+  },
+
+  /**
+   * Failures have no stack trace. {@code AssertionError}s are created without capturing the stack trace; the stack
+   * trace captured by JUnit's {@code ComparisonFailure}s is discarded.
+   */
+  NONE {
+    @Override
+    @Nonnull AssertionError newAssertionError(@Nullable String message) {
+      return new StacklessAssertionError(message);
+    }
+
+    @Override
+    @Nonnull <T extends Throwable> T applyTo(@Nonnull T failure) {
+      failure.setStackTrace(NO_STACK_TRACE);
+      return failure;
+    }
+  };
+
+  private static final String PACKAGE_PREFIX = "org.fest.assertions.";
+  private static final String[] REFLECTION_PACKAGE_PREFIXES = {
+      "sun.reflect.", "jdk.internal.reflect.", "java.lang.reflect.", "java.lang.invoke."
+  };
+  private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[0];
+  private static final ConcurrentMap<String, Boolean> LIBRARY_CLASSES = new ConcurrentHashMap<String, Boolean>();
+
+  abstract @Nonnull AssertionError newAssertionError(@Nullable String message);
+
+  abstract @Nonnull <T extends Throwable> T applyTo(@Nonnull T failure);
+
+  /*
+   * A class in the org.fest.assertions package is a FEST-Assert class only if it was loaded from the same place as this
+   * one, so tests and other callers living in the same package are not mistaken for FEST-Assert classes. The answer is
+   * cached per class name, so each class is only looked up the first time it shows up in a stack trace.
+   */
+  private static boolean isLibraryClass(@Nonnull String className) {
+    if (!className.startsWith(PACKAGE_PREFIX)) {
+      return false;
+    }
+    Boolean libraryClass = LIBRARY_CLASSES.get(className);
+    if (libraryClass == null) {
+      libraryClass = isLoadedWithThisClass(className);
+      LIBRARY_CLASSES.putIfAbsent(className, libraryClass);
+    }
+    return libraryClass;
+  }
+
+  private static boolean isLoadedWithThisClass(@Nonnull String className) {
+    try {
+      Class<?> type = Class.forName(className, false, StackTraceMode.class.getClassLoader());
+      return areEqual(locationOf(type), locationOf(StackTraceMode.class));
+    } catch (ClassNotFoundException e) {
+      return false;
+    } catch (SecurityException e) {
+      return true;
+    }
+  }
+
+  private static @Nullable String locationOf(@Nonnull Class<?> type) {
+    CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+    URL location = codeSource == null ? null : codeSource.getLocation();
+    return location == null ? null : location.toExternalForm();
+  }
+
+  private static boolean isReflectionClass(@Nonnull String className) {
+    for (String prefix : REFLECTION_PACKAGE_PREFIXES) {
+      if (className.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static class StacklessAssertionError extends AssertionError {
+    private static final long serialVersionUID = 1L;
+
+    StacklessAssertionError(@Nullable String message) {
+      super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+}
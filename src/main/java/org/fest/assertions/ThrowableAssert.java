@@ -21,6 +21,7 @@ import javax.annotation.Nullable;
 
 import static org.fest.assertions.Fail.failIfNotEqual;
 import static org.fest.assertions.Formatting.format;
+import static org.fest.util.Objects.areEqual;
 import static org.fest.util.Preconditions.checkNotNull;
 
 /**
@@ -91,7 +92,11 @@ public class ThrowableAssert extends GenericAssert<ThrowableAssert, Throwable> {
    */
   public @Nonnull ThrowableAssert hasMessage(@Nullable String message) {
     isNotNull();
-    failIfNotEqual(customErrorMessage(), rawDescription(), actual.getMessage(), message);
+    String actualMessage = actual.getMessage();
+    if (areEqual(actualMessage, message)) {
+      return this;
+    }
+    failIfNotEqual(customErrorMessage(), rawDescription(), actualMessage, message);
     return this;
   }
 
@@ -154,4 +159,13 @@ public class ThrowableAssert extends GenericAssert<ThrowableAssert, Throwable> {
     objectAssert.overridingErrorMessage(message);
     return super.overridingErrorMessage(message);
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nonnull ThrowableAssert overridingErrorMessageLazily(@Nullable Description message) {
+    objectAssert.overridingErrorMessageLazily(message);
+    return super.overridingErrorMessageLazily(message);
+  }
 }
@@ -0,0 +1,89 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * Tests for {@link CollectionAssert#containsExactlyInAnyOrder(Object...)}.
+ */
+public class CollectionAssert_containsExactlyInAnyOrder_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_contains_given_objects_in_different_order() {
+    new CollectionAssert(newArrayList("Luke", "Leia", "Luke")).containsExactlyInAnyOrder("Luke", "Luke", "Leia");
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_null_elements() {
+    new CollectionAssert(newArrayList("Luke", null)).containsExactlyInAnyOrder(null, "Luke");
+  }
+
+  @Test
+  public void should_pass_if_both_actual_and_given_objects_are_empty() {
+    new CollectionAssert(newArrayList()).containsExactlyInAnyOrder();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new CollectionAssert(null).containsExactlyInAnyOrder("Luke");
+  }
+
+  @Test
+  public void should_throw_error_if_given_array_is_null() {
+    thrown.expect(NullPointerException.class);
+    Object[] objects = null;
+    new CollectionAssert(newArrayList("Luke")).containsExactlyInAnyOrder(objects);
+  }
+
+  @Test
+  public void should_throw_error_if_given_array_is_null_and_actual_is_null() {
+    thrown.expect(NullPointerException.class);
+    Object[] objects = null;
+    new CollectionAssert(null).containsExactlyInAnyOrder(objects);
+  }
+
+  @Test
+  public void should_fail_if_number_of_duplicates_differs() {
+    String message = "<['Luke', 'Luke', 'Leia']> does not contain exactly in any order:<['Luke', 'Leia', 'Leia']>, "
+        + "unexpected (with counts):<{'Luke'=1}>, missing (with counts):<{'Leia'=1}>";
+    thrown.expect(AssertionError.class, message);
+    new CollectionAssert(newArrayList("Luke", "Luke", "Leia")).containsExactlyInAnyOrder("Luke", "Leia", "Leia");
+  }
+
+  @Test
+  public void should_fail_and_display_description_if_actual_has_unexpected_elements() {
+    String message = "[A Test] <['Luke', 'Han', 'Han']> does not contain exactly in any order:<['Luke']>, "
+        + "unexpected (with counts):<{'Han'=2}>";
+    thrown.expect(AssertionError.class, message);
+    new CollectionAssert(newArrayList("Luke", "Han", "Han")).as("A Test").containsExactlyInAnyOrder("Luke");
+  }
+
+  @Test
+  public void should_fail_with_custom_message_if_actual_does_not_contain_given_objects() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new CollectionAssert(newArrayList("Luke")).overridingErrorMessage("My custom message")
+        .containsExactlyInAnyOrder("Leia");
+  }
+}
@@ -17,6 +17,7 @@ package org.fest.assertions;
 import org.junit.ComparisonFailure;
 import org.junit.Test;
 
+import static org.fest.util.Strings.quote;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -47,6 +48,25 @@ public class ComparisonFailureFactory_comparisonFailure_Test {
     assertEquals("[message] expected:<null> but was:<'actual'>", failure.getMessage());
   }
 
+  @Test
+  public void should_not_truncate_long_Strings_differing_at_the_end() {
+    String expected = repeat('a', 20000) + "b";
+    String actual = repeat('a', 20000) + "c";
+    AssertionError failure = ComparisonFailureFactory.comparisonFailure("message", expected, actual);
+    assertThatIsComparisonFailure(failure);
+    ComparisonFailure comparisonFailure = (ComparisonFailure) failure;
+    assertEquals(quote(expected), comparisonFailure.getExpected());
+    assertEquals(quote(actual), comparisonFailure.getActual());
+  }
+
+  private static String repeat(char c, int count) {
+    StringBuilder b = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      b.append(c);
+    }
+    return b.toString();
+  }
+
   private static void assertThatIsComparisonFailure(AssertionError failure) {
     assertTrue(failure instanceof ComparisonFailure);
   }
@@ -0,0 +1,110 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link ConcurrentSoftAssertions#errors()}.
+ */
+public class ConcurrentSoftAssertions_errors_Test {
+  private final ConcurrentSoftAssertions softly = new ConcurrentSoftAssertions();
+
+  @Test
+  public void should_collect_failures_from_all_threads() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int i = 0; i < 100; i++) {
+      final int value = i;
+      executor.submit(new Runnable() {
+        @Override
+        public void run() {
+          softly.check(new Runnable() {
+            @Override
+            public void run() {
+              assertThat(value % 10).as(String.valueOf(value)).isNotEqualTo(0);
+            }
+          });
+        }
+      });
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+    List<String> messages = new ArrayList<String>();
+    for (AssertionError error : softly.errors()) {
+      messages.add(error.getMessage());
+    }
+    Collections.sort(messages);
+    assertEquals(10, messages.size());
+    assertEquals("[0] actual value:<0> should not be equal to:<0>", messages.get(0));
+    assertEquals("[90] actual value:<0> should not be equal to:<0>", messages.get(9));
+  }
+
+  @Test
+  public void should_keep_order_of_failures_in_same_thread() {
+    softly.check(new Runnable() {
+      @Override
+      public void run() {
+        assertThat("Yoda").isNull();
+      }
+    }).check(new Runnable() {
+      @Override
+      public void run() {
+        assertThat("Luke").isNull();
+      }
+    });
+    List<AssertionError> errors = softly.errors();
+    assertEquals(2, errors.size());
+    assertEquals("<'Yoda'> should be null", errors.get(0).getMessage());
+    assertEquals("<'Luke'> should be null", errors.get(1).getMessage());
+  }
+
+  @Test
+  public void should_keep_failures_collected_before_assertAll() {
+    softly.check(new Runnable() {
+      @Override
+      public void run() {
+        assertThat("Yoda").isNull();
+      }
+    });
+    try {
+      softly.assertAll();
+      fail();
+    } catch (AssertionError e) {
+      assertEquals(String.format("1 assertion failed:%n1) <'Yoda'> should be null"), e.getMessage());
+    }
+    softly.check(new Runnable() {
+      @Override
+      public void run() {
+        assertThat("Luke").isNull();
+      }
+    });
+    List<AssertionError> errors = softly.errors();
+    assertEquals(2, errors.size());
+    assertEquals("<'Yoda'> should be null", errors.get(0).getMessage());
+    assertEquals("<'Luke'> should be null", errors.get(1).getMessage());
+  }
+}
@@ -18,7 +18,9 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Tests for {@link ConstructorInvoker#newInstance(String, Class[], Object[])}.
@@ -40,4 +42,29 @@ public class ConstructorInvoker_newInstance_Test {
     Exception e = (Exception) o;
     assertEquals("Hi", e.getMessage());
   }
+
+  @Test
+  public void should_create_Objects_using_cached_constructor() throws Exception {
+    for (String message : new String[]{"Hi", "Bye"}) {
+      Object o = invoker.newInstance("java.lang.Exception", new Class<?>[]{String.class}, new Object[]{message});
+      assertEquals(message, ((Exception) o).getMessage());
+    }
+  }
+
+  @Test
+  public void should_cache_failure_to_find_class() {
+    Exception first = newInstanceOfMissingClass();
+    assertTrue(first instanceof ClassNotFoundException);
+    assertSame(first, newInstanceOfMissingClass());
+  }
+
+  private Exception newInstanceOfMissingClass() {
+    try {
+      invoker.newInstance("org.fest.assertions.MissingClass", new Class<?>[0], new Object[0]);
+    } catch (Exception e) {
+      return e;
+    }
+    fail("expecting the class not to be found");
+    return null;
+  }
 }
@@ -0,0 +1,127 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.assertions.DirectoryComparator.DirectoryDiff;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.fest.assertions.Directories.*;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests for {@link DirectoryComparator#compareContents(File, File)}.
+ */
+public class DirectoryComparator_compareContents_Test {
+  private DirectoryComparator comparator;
+  private File actual;
+  private File expected;
+
+  @Before
+  public void setUp() throws IOException {
+    comparator = new DirectoryComparator(new FileContentComparator());
+    actual = newTemporaryDirectory();
+    expected = newTemporaryDirectory();
+  }
+
+  @After
+  public void tearDown() {
+    delete(actual);
+    delete(expected);
+  }
+
+  @Test
+  public void should_not_find_differences_in_equal_trees() throws IOException {
+    for (File directory : newArrayList(actual, expected)) {
+      write(directory, "a.txt", "a");
+      write(directory, "sub/b.txt", "b");
+      write(directory, "sub/deeper/c.txt", "c");
+    }
+    assertTrue(comparator.compareContents(actual, expected).isEmpty());
+  }
+
+  @Test
+  public void should_find_missing_unexpected_and_different_files() throws IOException {
+    write(actual, "same.txt", "same");
+    write(expected, "same.txt", "same");
+    write(actual, "size.txt", "longer");
+    write(expected, "size.txt", "short");
+    write(actual, "sub/content.txt", "abc");
+    write(expected, "sub/content.txt", "abd");
+    write(expected, "missing/file.txt", "x");
+    write(actual, "unexpected.txt", "y");
+    DirectoryDiff diff = comparator.compareContents(actual, expected);
+    assertEquals(newArrayList("missing/", "missing/file.txt"), diff.missing);
+    assertEquals(newArrayList("unexpected.txt"), diff.unexpected);
+    assertEquals(newArrayList("size.txt", "sub/content.txt"), diff.different);
+  }
+
+  @Test
+  public void should_report_directory_in_place_of_file_as_missing_and_unexpected() throws IOException {
+    write(actual, "entry/file.txt", "a");
+    write(expected, "entry", "a");
+    DirectoryDiff diff = comparator.compareContents(actual, expected);
+    assertEquals(newArrayList("entry"), diff.missing);
+    assertEquals(newArrayList("entry/", "entry/file.txt"), diff.unexpected);
+  }
+
+  @Test
+  public void should_report_files_with_different_line_separators_as_different() throws IOException {
+    write(actual, "lines.txt", "a\r\nb\r\n");
+    write(expected, "lines.txt", "a\nb\n");
+    assertEquals(newArrayList("lines.txt"), comparator.compareContents(actual, expected).different);
+  }
+
+  @Test
+  public void should_not_walk_symbolic_links_to_ancestor_directories_again() throws Exception {
+    File actualLink = null;
+    File expectedLink = null;
+    try {
+      write(actual, "sub/a.txt", "a");
+      write(expected, "sub/a.txt", "a");
+      actualLink = symbolicLink(new File(actual, "sub/loop"), actual);
+      expectedLink = symbolicLink(new File(expected, "sub/loop"), expected);
+      DirectoryDiff diff = comparator.compareContents(actual, expected);
+      assertTrue(diff.isEmpty());
+    } finally {
+      deleteLink(actualLink);
+      deleteLink(expectedLink);
+    }
+  }
+
+  private static File symbolicLink(File link, File target) throws Exception {
+    Process process;
+    try {
+      process = new ProcessBuilder("ln", "-s", target.getAbsolutePath(), link.getAbsolutePath()).start();
+    } catch (IOException e) {
+      process = null;
+    }
+    assumeTrue(process != null && process.waitFor() == 0);
+    return link;
+  }
+
+  private static void deleteLink(File link) {
+    if (link != null) {
+      link.delete();
+    }
+  }
+}
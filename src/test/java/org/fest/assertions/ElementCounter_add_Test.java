@@ -0,0 +1,75 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ElementCounter#add(Object, int)}.
+ */
+public class ElementCounter_add_Test {
+  @Test
+  public void should_have_zero_counts_if_additions_cancel_out() {
+    ElementCounter counter = new ElementCounter(0);
+    counter.add("Luke", 2);
+    counter.add(null, 1);
+    assertFalse(counter.allCountsAreZero());
+    counter.add("Luke", -2);
+    counter.add(null, -1);
+    assertTrue(counter.allCountsAreZero());
+  }
+
+  @Test
+  public void should_return_positive_and_negative_counts_in_order_of_given_objects() {
+    ElementCounter counter = new ElementCounter(0);
+    counter.add("Luke", 1);
+    counter.add("Leia", -2);
+    counter.add(null, 3);
+    counter.add("Han", 1);
+    counter.add("Han", -1);
+    List<Object> objects = asList(null, "Han", "Yoda", "Leia", "Luke", null, "Leia");
+    Map<Object, Integer> positive = counter.positiveCounts(objects);
+    assertEquals(asList(null, "Luke"), newArrayList(positive.keySet()));
+    assertEquals(asList(3, 1), newArrayList(positive.values()));
+    Map<Object, Integer> negative = counter.negativeCounts(objects);
+    assertEquals(asList((Object) "Leia"), newArrayList(negative.keySet()));
+    assertEquals(asList(2), newArrayList(negative.values()));
+  }
+
+  @Test
+  public void should_keep_counts_when_growing() {
+    ElementCounter counter = new ElementCounter(0);
+    for (int i = 0; i < 10000; i++) {
+      counter.add(i, 1);
+      counter.add(i % 7, 1);
+    }
+    for (int i = 0; i < 10000; i++) {
+      counter.add(i, -1);
+    }
+    Map<Object, Integer> positive = counter.positiveCounts(asList(0, 1, 2, 3, 4, 5, 6, 7));
+    assertEquals(7, positive.size());
+    assertEquals(Integer.valueOf(1429), positive.get(0));
+    assertEquals(Integer.valueOf(1428), positive.get(6));
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.After;
+import org.junit.ComparisonFailure;
+import org.junit.Test;
+
+import static org.fest.assertions.StackTraceMode.FULL;
+import static org.fest.assertions.StackTraceMode.NONE;
+import static org.fest.assertions.StackTraceMode.TRIMMED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link Fail#useStackTraceMode(StackTraceMode)}.
+ */
+public class Fail_useStackTraceMode_Test {
+  @After
+  public void tearDown() {
+    Fail.useStackTraceMode(FULL);
+  }
+
+  @Test
+  public void should_keep_full_stack_trace_by_default() {
+    assertSame(FULL, Fail.stackTraceMode());
+    StackTraceElement[] stackTrace = Fail.failure("message").getStackTrace();
+    assertTrue(stackTrace[0].getClassName().startsWith("org.fest.assertions."));
+  }
+
+  @Test
+  public void should_remove_fest_frames_from_top_of_stack_trace() {
+    Fail.useStackTraceMode(TRIMMED);
+    AssertionError failure = Fail.failure("message");
+    assertEquals("message", failure.getMessage());
+    assertStackTraceStartsAt("should_remove_fest_frames_from_top_of_stack_trace", failure);
+  }
+
+  @Test
+  public void should_not_capture_stack_trace() {
+    Fail.useStackTraceMode(NONE);
+    AssertionError failure = Fail.failure("message");
+    assertEquals("message", failure.getMessage());
+    assertEquals(0, failure.getStackTrace().length);
+  }
+
+  @Test
+  public void should_discard_stack_trace_of_ComparisonFailure() {
+    Fail.useStackTraceMode(NONE);
+    AssertionError failure = ComparisonFailureFactory.comparisonFailure("message", "expected", "actual");
+    assertTrue(failure instanceof ComparisonFailure);
+    assertEquals(0, failure.getStackTrace().length);
+  }
+
+  @Test
+  public void should_remove_fest_and_reflection_frames_from_stack_trace_of_ComparisonFailure() {
+    Fail.useStackTraceMode(TRIMMED);
+    try {
+      new StringAssert("Luke").isEqualTo("Leia");
+      fail();
+    } catch (AssertionError e) {
+      assertTrue(e instanceof ComparisonFailure);
+      assertStackTraceStartsAt("should_remove_fest_and_reflection_frames_from_stack_trace_of_ComparisonFailure", e);
+    }
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_mode_is_null() {
+    Fail.useStackTraceMode(null);
+  }
+
+  private void assertStackTraceStartsAt(String testMethodName, AssertionError failure) {
+    StackTraceElement top = failure.getStackTrace()[0];
+    assertEquals(getClass().getName(), top.getClassName());
+    assertEquals(testMethodName, top.getMethodName());
+  }
+}
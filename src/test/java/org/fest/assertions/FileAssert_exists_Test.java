@@ -73,4 +73,15 @@ public class FileAssert_exists_Test extends FileAssert_TestCase {
     thrown.expect(AssertionError.class, "My custom message");
     new FileAssert(file).as("A Test").overridingErrorMessage("My custom message").exists();
   }
-}
\ No newline at end of file
+
+  @Test
+  public void should_read_existence_again_after_failing() {
+    FileAssert assertion = new FileAssert(file);
+    try {
+      assertion.exists();
+    } catch (AssertionError e) {
+      file.ensureExists();
+    }
+    assertion.exists();
+  }
+}
@@ -14,17 +14,24 @@
  */
 package org.fest.assertions;
 
+import org.fest.assertions.FileContentComparator.LineDiff;
 import org.fest.test.ExpectedException;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.Charset;
 
 import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.assertions.FileContentComparator.MAX_LINE_DIFFS;
+import static org.fest.assertions.FileContentComparator.LineDiff.comparisonStopped;
+import static org.fest.assertions.FileContentComparator.LineDiff.differentBytes;
 import static org.fest.assertions.FileContentComparator.LineDiff.lineDiff;
+import static org.fest.assertions.FileContentOptions.fileContentOptions;
 import static org.fest.assertions.FileStub.newFile;
 import static org.fest.test.ExpectedException.none;
 import static org.fest.util.Strings.concat;
@@ -42,6 +49,8 @@ public class FileAssert_hasSameContentsAs_Test extends FileAssert_TestCase {
   @Rule
   public ExpectedException thrown = none();
 
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
   private FileContentComparatorStub comparator;
 
   @Before
@@ -92,6 +101,76 @@ public class FileAssert_hasSameContentsAs_Test extends FileAssert_TestCase {
     new FileAssert(file, comparator).as("A Test").hasSameContentAs(expected);
   }
 
+  @Test
+  public void should_fail_if_actual_has_unexpected_or_missing_lines() {
+    file.ensureExists();
+    comparator.expectedLineDiffs(lineDiff(2, "abc", null), lineDiff(5, null, "xyz"));
+    String message = concat("file:<c:\\f.txt> and file:<c:\\temp\\expected.txt> do not have same contents:",
+        lineSeparator(), "line:<2>, unexpected:<'abc'>", lineSeparator(), "line:<5>, missing:<'xyz'>");
+    thrown.expect(AssertionError.class, message);
+    FileStub expected = newFile("c:\\temp\\expected.txt").ensureExists();
+    new FileAssert(file, comparator).hasSameContentAs(expected);
+  }
+
+  @Test
+  public void should_not_say_comparison_stopped_if_there_are_exactly_maximum_number_of_different_lines() {
+    file.ensureExists();
+    comparator.expectedLineDiffs(lineDiffs(MAX_LINE_DIFFS));
+    FileStub expected = newFile("c:\\temp\\expected.txt").ensureExists();
+    try {
+      new FileAssert(file, comparator).hasSameContentAs(expected);
+      fail();
+    } catch (AssertionError e) {
+      assertTrue(e.getMessage().endsWith("line:<99>, expected:<'xyz'> but was:<'abc'>"));
+    }
+  }
+
+  @Test
+  public void should_fail_saying_comparison_stopped_if_too_many_lines_are_different() {
+    file.ensureExists();
+    comparator.expectedLineDiffs(lineDiffs(MAX_LINE_DIFFS + 1));
+    FileStub expected = newFile("c:\\temp\\expected.txt").ensureExists();
+    try {
+      new FileAssert(file, comparator).hasSameContentAs(expected);
+      fail();
+    } catch (AssertionError e) {
+      String message = e.getMessage();
+      assertTrue(message.endsWith(concat("line:<99>, expected:<'xyz'> but was:<'abc'>", lineSeparator(),
+          "(comparison stopped after 100 differences)")));
+    }
+  }
+
+  @Test
+  public void should_fail_saying_where_comparison_stopped_if_files_are_too_long_to_compare() {
+    file.ensureExists();
+    comparator.expectedLineDiffs(lineDiff(2, "abc", "xyz"), comparisonStopped(1002));
+    String message = concat("file:<c:\\f.txt> and file:<c:\\temp\\expected.txt> do not have same contents:",
+        lineSeparator(), "line:<2>, expected:<'xyz'> but was:<'abc'>", lineSeparator(),
+        "(comparison stopped at line:<1002>)");
+    thrown.expect(AssertionError.class, message);
+    FileStub expected = newFile("c:\\temp\\expected.txt").ensureExists();
+    new FileAssert(file, comparator).hasSameContentAs(expected);
+  }
+
+  @Test
+  public void should_fail_saying_where_bytes_differ_if_files_are_not_text() {
+    file.ensureExists();
+    comparator.expectedLineDiffs(differentBytes(17));
+    String message = concat("file:<c:\\f.txt> and file:<c:\\temp\\expected.txt> do not have same contents:",
+        lineSeparator(), "byte:<17>, files cannot be read as text using charset:<UTF-8>");
+    thrown.expect(AssertionError.class, message);
+    FileStub expected = newFile("c:\\temp\\expected.txt").ensureExists();
+    new FileAssert(file, comparator).hasSameContentAs(expected, fileContentOptions().withCharset(UTF_8));
+  }
+
+  private static @Nonnull LineDiff[] lineDiffs(int count) {
+    LineDiff[] diffs = new LineDiff[count];
+    for (int i = 0; i < diffs.length; i++) {
+      diffs[i] = lineDiff(i, "abc", "xyz");
+    }
+    return diffs;
+  }
+
   @Test
   public void should_fail_with_custom_message_if_actual_and_expected_do_not_have_same_content() {
     file.ensureExists();
@@ -192,7 +271,9 @@ public class FileAssert_hasSameContentsAs_Test extends FileAssert_TestCase {
     }
 
     @Override
-    @Nonnull LineDiff[] compareContents(@Nonnull File actual, @Nonnull File expected) throws IOException {
+    @Nonnull LineDiff[] compareContents(@Nonnull File actual, @Nonnull File expected,
+                                        @Nonnull FileContentOptions options,
+                                        @Nullable FileDigestCache expectedDigests) throws IOException {
       if (toThrow != null) {
         throw toThrow;
       }
@@ -0,0 +1,92 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.fest.assertions.Directories.*;
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Strings.concat;
+import static org.fest.util.SystemProperties.lineSeparator;
+
+/**
+ * Tests for {@link FileAssert#hasSameTreeAs(File)}.
+ */
+public class FileAssert_hasSameTreeAs_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  private File actual;
+  private File expected;
+
+  @Before
+  public void setUp() throws IOException {
+    actual = newTemporaryDirectory();
+    expected = newTemporaryDirectory();
+    write(actual, "a.txt", "a");
+    write(expected, "a.txt", "a");
+  }
+
+  @After
+  public void tearDown() {
+    delete(actual);
+    delete(expected);
+  }
+
+  @Test
+  public void should_pass_if_directories_have_same_contents() {
+    new FileAssert(actual).hasSameTreeAs(expected);
+  }
+
+  @Test
+  public void should_fail_reporting_all_differences() throws IOException {
+    write(actual, "b.txt", "b");
+    write(expected, "c.txt", "c");
+    write(actual, "d.txt", "d");
+    write(expected, "d.txt", "e");
+    String message = concat("directory:<", actual, "> and directory:<", expected, "> do not have same contents:",
+        lineSeparator(), "missing:<['c.txt']>", lineSeparator(), "unexpected:<['b.txt']>", lineSeparator(),
+        "different:<['d.txt']>");
+    thrown.expect(AssertionError.class, message);
+    new FileAssert(actual).hasSameTreeAs(expected);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_a_directory() {
+    File file = new File(actual, "a.txt");
+    thrown.expect(AssertionError.class, concat("file:<", file, "> should be a directory"));
+    new FileAssert(file).hasSameTreeAs(expected);
+  }
+
+  @Test
+  public void should_fail_with_custom_message_if_directories_do_not_have_same_contents() throws IOException {
+    write(actual, "b.txt", "b");
+    thrown.expect(AssertionError.class, "My custom message");
+    new FileAssert(actual).overridingErrorMessage("My custom message").hasSameTreeAs(expected);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+    thrown.expect(NullPointerException.class);
+    new FileAssert(actual).hasSameTreeAs(null);
+  }
+}
@@ -89,4 +89,16 @@ public class FileAssert_hasSize_Test implements Assert_hasSize_TestCase {
     thrown.expect(AssertionError.class, "My custom message");
     new FileAssert(file).as("A Test").overridingErrorMessage("My custom message").hasSize(6);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void should_read_size_again_after_failing() {
+    FileStub growingFile = aFile();
+    FileAssert assertion = new FileAssert(growingFile);
+    try {
+      assertion.hasSize(6);
+    } catch (AssertionError e) {
+      growingFile.length(6);
+    }
+    assertion.hasSize(6);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link FileAttributes#exists()}.
+ */
+public class FileAttributes_exists_Test {
+  private CountingFile file;
+  private FileAttributes attributes;
+
+  @Before
+  public void setUp() {
+    file = new CountingFile();
+    attributes = new FileAttributes(file);
+  }
+
+  @Test
+  public void should_read_attribute_only_once() {
+    file.isFile = true;
+    assertTrue(attributes.exists());
+    assertTrue(attributes.exists());
+    assertEquals(1, file.statCount);
+  }
+
+  @Test
+  public void should_infer_file_exists_if_it_is_a_regular_file() {
+    file.isFile = true;
+    assertTrue(attributes.isFile());
+    assertTrue(attributes.exists());
+    assertFalse(attributes.isDirectory());
+    assertEquals(1, file.statCount);
+  }
+
+  @Test
+  public void should_infer_other_attributes_if_file_does_not_exist() {
+    assertFalse(attributes.exists());
+    assertFalse(attributes.isFile());
+    assertFalse(attributes.isDirectory());
+    assertEquals(0, attributes.length());
+    assertEquals(1, file.statCount);
+  }
+
+  private static class CountingFile extends File {
+    private static final long serialVersionUID = 1L;
+
+    boolean isFile;
+    int statCount;
+
+    CountingFile() {
+      super("counting");
+    }
+
+    @Override
+    public boolean exists() {
+      statCount++;
+      return isFile;
+    }
+
+    @Override
+    public boolean isFile() {
+      statCount++;
+      return isFile;
+    }
+
+    @Override
+    public boolean isDirectory() {
+      statCount++;
+      return false;
+    }
+
+    @Override
+    public long length() {
+      statCount++;
+      return isFile ? 10 : 0;
+    }
+  }
+}
@@ -49,9 +49,14 @@ public class FileContentComparator_compareContents_withDifferentFiles_Test {
         {"fileAssertTest2.txt", "fileAssertTest3.txt",
             diffs(lineDiff(1, "abcde fghij abcde fghij", "abcde fghij abcde fghij z"))},
         {"fileAssertTest1.txt", "fileAssertTest2.txt",
-            diffs(lineDiff(0, "this file is 22 bytes.", "abcde fghij"), lineDiff(0, "EOF", "abcde fghij"))},
+            diffs(lineDiff(0, "this file is 22 bytes.", "abcde fghij"), lineDiff(1, null, "abcde fghij abcde fghij"),
+                lineDiff(1, null, "abcde"))},
         {"fileAssertTest2.txt", "fileAssertTest1.txt",
-            diffs(lineDiff(0, "abcde fghij", "this file is 22 bytes."), lineDiff(0, "abcde fghij", "EOF"))}});
+            diffs(lineDiff(0, "abcde fghij", "this file is 22 bytes."), lineDiff(1, "abcde fghij abcde fghij", null),
+                lineDiff(2, "abcde", null))},
+        {"fileAssertTest3.txt", "fileAssertTest5.txt",
+            diffs(lineDiff(1, "abcde fghij abcde fghij z", "abcde fghij abcde fghij"),
+                lineDiff(2, "abcde", "abcde z"))}});
   }
 
   private static LineDiff[] diffs(LineDiff... diffs) {
@@ -0,0 +1,59 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.assertions.FileContentComparator.LineDiff;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.fest.assertions.FileContentComparator.LineDiff.lineDiff;
+import static org.fest.assertions.FileContentOptions.fileContentOptions;
+import static org.fest.assertions.Resources.file;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for
+ * {@link FileContentComparator#compareContents(java.io.File, java.io.File, FileContentOptions, FileDigestCache)}.
+ */
+public class FileContentComparator_compareContents_withDigestCache_Test {
+  private FileContentComparator comparator;
+  private FileContentOptions options;
+  private FileDigestCache cache;
+
+  @Before
+  public void setUp() {
+    comparator = new FileContentComparator();
+    options = fileContentOptions();
+    cache = new FileDigestCache(10);
+  }
+
+  @Test
+  public void should_not_return_any_diffs_for_equal_files() throws IOException {
+    File file = file("fileAssertTest4.txt");
+    assertEquals(0, comparator.compareContents(file, file, options, cache).length);
+    assertEquals(0, comparator.compareContents(file, file, options, cache).length);
+  }
+
+  @Test
+  public void should_return_diffs_for_not_equal_files() throws IOException {
+    LineDiff[] diffs =
+        comparator.compareContents(file("fileAssertTest2.txt"), file("fileAssertTest3.txt"), options, cache);
+    assertArrayEquals(new LineDiff[]{lineDiff(1, "abcde fghij abcde fghij", "abcde fghij abcde fghij z")}, diffs);
+  }
+}
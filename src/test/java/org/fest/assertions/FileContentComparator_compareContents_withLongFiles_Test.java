@@ -0,0 +1,90 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.assertions.FileContentComparator.LineDiff;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.*;
+
+import static org.fest.assertions.FileContentComparator.LineDiff.comparisonStopped;
+import static org.fest.assertions.FileContentComparator.LineDiff.lineDiff;
+import static org.fest.assertions.FileContentComparator.MAX_LINE_DIFFS;
+import static org.fest.assertions.MyersDiff.MAX_EDIT_DISTANCE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link FileContentComparator#compareContents(java.io.File, java.io.File)} with files much longer than the
+ * lines compared after the first different one.
+ */
+public class FileContentComparator_compareContents_withLongFiles_Test {
+  private static final int LINE_COUNT = 100 * MAX_EDIT_DISTANCE;
+
+  private FileContentComparator comparator;
+  private File actual;
+  private File expected;
+
+  @Before
+  public void setUp() throws IOException {
+    comparator = new FileContentComparator();
+    actual = File.createTempFile("actual", ".txt");
+    expected = File.createTempFile("expected", ".txt");
+  }
+
+  @After
+  public void tearDown() {
+    actual.delete();
+    expected.delete();
+  }
+
+  @Test
+  public void should_stop_comparison_after_lines_read_from_first_different_one() throws IOException {
+    writeLines(actual, LINE_COUNT, 1, "changed", -1, null);
+    writeLines(expected, LINE_COUNT, -1, null, 5, "new");
+    LineDiff[] diffs = comparator.compareContents(actual, expected);
+    LineDiff[] expectedDiffs = {lineDiff(1, "changed", "line 1"), lineDiff(5, null, "new"),
+        comparisonStopped(1 + MAX_EDIT_DISTANCE)};
+    assertArrayEquals(expectedDiffs, diffs);
+  }
+
+  @Test
+  public void should_report_lines_read_as_missing_if_actual_ends_first() throws IOException {
+    writeLines(actual, LINE_COUNT, -1, null, -1, null);
+    writeLines(expected, 2 * LINE_COUNT, -1, null, -1, null);
+    LineDiff[] diffs = comparator.compareContents(actual, expected);
+    assertEquals(MAX_LINE_DIFFS + 1, diffs.length);
+    assertEquals(lineDiff(LINE_COUNT, null, "line " + LINE_COUNT), diffs[0]);
+  }
+
+  private static void writeLines(File file, int lineCount, int changedIndex, String changedLine, int insertedIndex,
+                                 String insertedLine) throws IOException {
+    BufferedWriter writer = new BufferedWriter(new FileWriter(file));
+    try {
+      for (int i = 0; i < lineCount; i++) {
+        if (i == insertedIndex) {
+          writer.write(insertedLine);
+          writer.newLine();
+        }
+        writer.write(i == changedIndex ? changedLine : "line " + i);
+        writer.newLine();
+      }
+    } finally {
+      writer.close();
+    }
+  }
+}
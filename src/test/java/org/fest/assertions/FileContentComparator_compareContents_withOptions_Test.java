@@ -0,0 +1,110 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.assertions.FileContentComparator.LineDiff;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+import static org.fest.assertions.FileContentComparator.LineDiff.differentBytes;
+import static org.fest.assertions.FileContentComparator.LineDiff.lineDiff;
+import static org.fest.assertions.FileContentOptions.fileContentOptions;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for
+ * {@link FileContentComparator#compareContents(java.io.File, java.io.File, FileContentOptions, FileDigestCache)}.
+ */
+public class FileContentComparator_compareContents_withOptions_Test {
+  private static final Charset UTF_16 = Charset.forName("UTF-16");
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private FileContentComparator comparator;
+  private File actual;
+  private File expected;
+
+  @Before
+  public void setUp() throws IOException {
+    comparator = new FileContentComparator();
+    actual = File.createTempFile("actual", ".txt");
+    expected = File.createTempFile("expected", ".txt");
+  }
+
+  @After
+  public void tearDown() {
+    actual.delete();
+    expected.delete();
+  }
+
+  @Test
+  public void should_decode_lines_using_charset() throws IOException {
+    write(actual, "caf\u00e9\nabc", UTF_16);
+    write(expected, "caf\u00e9\nabd", UTF_16);
+    LineDiff[] diffs = comparator.compareContents(actual, expected, fileContentOptions().withCharset(UTF_16), null);
+    assertArrayEquals(new LineDiff[]{lineDiff(1, "abc", "abd")}, diffs);
+  }
+
+  @Test
+  public void should_ignore_line_endings() throws IOException {
+    write(actual, "a\r\nb\r\n", UTF_8);
+    write(expected, "a\nb\n", UTF_8);
+    assertEquals(0, comparator.compareContents(actual, expected, fileContentOptions(), null).length);
+  }
+
+  @Test
+  public void should_ignore_trailing_whitespace() throws IOException {
+    write(actual, "a  \nb\t\n", UTF_8);
+    write(expected, "a\nb\n", UTF_8);
+    FileContentOptions options = fileContentOptions().ignoringTrailingWhitespace();
+    assertEquals(0, comparator.compareContents(actual, expected, options, null).length);
+  }
+
+  @Test
+  public void should_report_differences_with_whitespace_collapsed() throws IOException {
+    write(actual, "a   b\nc  d\n", UTF_8);
+    write(expected, "a b\nc e\n", UTF_8);
+    FileContentOptions options = fileContentOptions().ignoringWhitespaceAmount();
+    LineDiff[] diffs = comparator.compareContents(actual, expected, options, null);
+    assertArrayEquals(new LineDiff[]{lineDiff(1, "c d", "c e")}, diffs);
+  }
+
+  @Test
+  public void should_report_first_different_byte_if_files_are_not_text() throws IOException {
+    write(actual, new byte[]{'a', '\n', (byte) 0xff, 'b'});
+    write(expected, new byte[]{'a', '\n', (byte) 0xfe, 'b'});
+    LineDiff[] diffs = comparator.compareContents(actual, expected, fileContentOptions().withCharset(UTF_8), null);
+    assertArrayEquals(new LineDiff[]{differentBytes(2)}, diffs);
+  }
+
+  private static void write(File file, String content, Charset charset) throws IOException {
+    write(file, content.getBytes(charset.name()));
+  }
+
+  private static void write(File file, byte[] content) throws IOException {
+    FileOutputStream out = new FileOutputStream(file);
+    try {
+      out.write(content);
+    } finally {
+      out.close();
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.fest.assertions.Resources.file;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link FileContentComparator#haveSameBytes(File, File)}.
+ */
+public class FileContentComparator_haveSameBytes_Test {
+  private static final int LARGE_FILE_SIZE = 1024 * 1024 + 7;
+
+  private FileContentComparator comparator;
+  private File actual;
+  private File expected;
+
+  @Before
+  public void setUp() throws IOException {
+    comparator = new FileContentComparator();
+    actual = File.createTempFile("actual", ".bin");
+    expected = File.createTempFile("expected", ".bin");
+  }
+
+  @After
+  public void tearDown() {
+    actual.delete();
+    expected.delete();
+  }
+
+  @Test
+  public void should_return_true_if_files_are_the_same() throws IOException {
+    assertTrue(comparator.haveSameBytes(file("fileAssertTest2.txt"), file("fileAssertTest2.txt")));
+  }
+
+  @Test
+  public void should_return_false_if_files_have_different_size() throws IOException {
+    assertFalse(comparator.haveSameBytes(file("fileAssertTest1.txt"), file("fileAssertTest2.txt")));
+  }
+
+  @Test
+  public void should_return_true_if_large_files_have_same_bytes() throws IOException {
+    byte[] bytes = largeContent();
+    write(actual, bytes);
+    write(expected, bytes);
+    assertTrue(comparator.haveSameBytes(actual, expected));
+  }
+
+  @Test
+  public void should_return_false_if_large_files_differ_in_last_byte() throws IOException {
+    byte[] bytes = largeContent();
+    write(expected, bytes);
+    bytes[bytes.length - 1]++;
+    write(actual, bytes);
+    assertFalse(comparator.haveSameBytes(actual, expected));
+  }
+
+  @Test
+  public void should_return_true_if_files_are_empty() throws IOException {
+    assertTrue(comparator.haveSameBytes(actual, expected));
+  }
+
+  private static byte[] largeContent() {
+    byte[] bytes = new byte[LARGE_FILE_SIZE];
+    Arrays.fill(bytes, (byte) 'a');
+    return bytes;
+  }
+
+  private static void write(File file, byte[] bytes) throws IOException {
+    FileOutputStream out = new FileOutputStream(file);
+    try {
+      out.write(bytes);
+    } finally {
+      out.close();
+    }
+  }
+}
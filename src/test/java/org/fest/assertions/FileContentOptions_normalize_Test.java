@@ -0,0 +1,56 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+
+import static org.fest.assertions.FileContentOptions.fileContentOptions;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for {@link FileContentOptions#normalize(String)}.
+ */
+public class FileContentOptions_normalize_Test {
+  @Test
+  public void should_return_same_line_by_default() {
+    String line = "  abc \t";
+    assertSame(line, fileContentOptions().normalize(line));
+  }
+
+  @Test
+  public void should_return_null_if_line_is_null() {
+    assertNull(fileContentOptions().ignoringWhitespaceAmount().normalize(null));
+  }
+
+  @Test
+  public void should_remove_trailing_whitespace() {
+    assertEquals("  a  b", fileContentOptions().ignoringTrailingWhitespace().normalize("  a  b \t "));
+  }
+
+  @Test
+  public void should_collapse_whitespace() {
+    assertEquals(" a b c", fileContentOptions().ignoringWhitespaceAmount().normalize("\t a  b\tc  "));
+  }
+
+  @Test
+  public void should_keep_charset_when_setting_whitespace_options() {
+    Charset charset = Charset.forName("UTF-16");
+    assertSame(charset, fileContentOptions().withCharset(charset).ignoringTrailingWhitespace().charset());
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link FileDigestCache#digestOf(File)}.
+ */
+public class FileDigestCache_digestOf_Test {
+  private FileDigestCache cache;
+  private File file;
+
+  @Before
+  public void setUp() throws IOException {
+    cache = new FileDigestCache(1);
+    file = File.createTempFile("golden", ".txt");
+    write(file, "abc");
+  }
+
+  @After
+  public void tearDown() {
+    file.delete();
+  }
+
+  @Test
+  public void should_return_digest_of_file_contents() throws IOException {
+    assertTrue(Arrays.equals(FileDigestCache.digest(file), cache.digestOf(file)));
+  }
+
+  @Test
+  public void should_return_cached_digest_if_file_did_not_change() throws IOException {
+    byte[] digest = cache.digestOf(file);
+    assertSame(digest, cache.digestOf(file));
+  }
+
+  @Test
+  public void should_compute_digest_again_if_file_size_changed() throws IOException {
+    byte[] digest = cache.digestOf(file);
+    long lastModified = file.lastModified();
+    write(file, "abcd");
+    file.setLastModified(lastModified);
+    assertFalse(Arrays.equals(digest, cache.digestOf(file)));
+  }
+
+  @Test
+  public void should_compute_digest_again_if_file_was_modified() throws IOException {
+    byte[] digest = cache.digestOf(file);
+    write(file, "xyz");
+    file.setLastModified(file.lastModified() + 2000);
+    assertFalse(Arrays.equals(digest, cache.digestOf(file)));
+  }
+
+  @Test
+  public void should_evict_least_recently_used_digest() throws IOException {
+    File other = File.createTempFile("other", ".txt");
+    try {
+      byte[] digest = cache.digestOf(file);
+      cache.digestOf(other);
+      assertNotSame(digest, cache.digestOf(file));
+    } finally {
+      other.delete();
+    }
+  }
+
+  private static void write(File file, String content) throws IOException {
+    FileOutputStream out = new FileOutputStream(file);
+    try {
+      out.write(content.getBytes("UTF-8"));
+    } finally {
+      out.close();
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.test.ExpectedException.none;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link GenericAssert#overridingErrorMessageLazily(Description)}.
+ */
+public class GenericAssert_overridingErrorMessageLazily_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  private CountingDescription message;
+
+  @Before
+  public void setUp() {
+    message = new CountingDescription();
+  }
+
+  @Test
+  public void should_not_compute_message_if_assertions_pass() {
+    new TestAssert("Hello").overridingErrorMessageLazily(message).isNotNull().isEqualTo("Hello").isNotEqualTo("Bye")
+        .isSameAs("Hello").isNotSameAs("Bye");
+    assertEquals(0, message.computeCount);
+  }
+
+  @Test
+  public void should_use_message_if_assertion_fails() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new TestAssert("Hello").overridingErrorMessageLazily(message).isEqualTo("Bye");
+  }
+
+  private static class CountingDescription extends LazyDescription {
+    int computeCount;
+
+    @Override
+    protected String computeValue() {
+      computeCount++;
+      return "My custom message";
+    }
+  }
+}
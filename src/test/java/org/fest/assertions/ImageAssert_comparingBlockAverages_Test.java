@@ -0,0 +1,58 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.fest.assertions.Images.image;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link ImageAssert#comparingBlockAverages(int)}.
+ */
+public class ImageAssert_comparingBlockAverages_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  private static final Color GRAY = new Color(100, 100, 100);
+
+  @Test
+  public void should_pass_if_differences_cancel_out_within_blocks() {
+    BufferedImage expected = image(8, 8, GRAY);
+    expected.setRGB(0, 0, new Color(110, 110, 110).getRGB());
+    expected.setRGB(1, 0, new Color(90, 90, 90).getRGB());
+    new ImageAssert(image(8, 8, GRAY)).comparingBlockAverages(4).isEqualTo(expected);
+  }
+
+  @Test
+  public void should_fail_reporting_first_different_pixel_in_different_block() {
+    thrown.expect(AssertionError.class,
+        "expected:<color[r=100,g=100,b=100]> but was:<color[r=200,g=100,b=100]> at pixel [6,5]");
+    BufferedImage expected = image(8, 8, GRAY);
+    expected.setRGB(6, 5, new Color(200, 100, 100).getRGB());
+    new ImageAssert(image(8, 8, GRAY)).comparingBlockAverages(4).isEqualTo(expected);
+  }
+
+  @Test
+  public void should_throw_error_if_block_size_is_less_than_one() {
+    thrown.expect(IllegalArgumentException.class, "The size of the blocks should be greater than zero");
+    new ImageAssert(image(8, 8, GRAY)).comparingBlockAverages(0);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import static java.awt.Color.BLUE;
+import static org.fest.assertions.Images.image;
+import static org.fest.test.ExpectedException.none;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link ImageAssert#reportingAllDifferences()}, {@link ImageAssert#withMismatchTolerance(double)} and
+ * {@link ImageAssert#writingDiffImageTo(File)}.
+ */
+public class ImageAssert_reportingAllDifferences_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  private BufferedImage expected;
+  private File diffImageFile;
+
+  @Before
+  public void setUp() throws IOException {
+    expected = image(10, 10, BLUE);
+    expected.setRGB(4, 2, new Color(0, 10, 255).getRGB());
+    expected.setRGB(1, 7, new Color(0, 0, 200).getRGB());
+    diffImageFile = File.createTempFile("diff", ".png");
+  }
+
+  @After
+  public void tearDown() {
+    diffImageFile.delete();
+  }
+
+  @Test
+  public void should_fail_reporting_all_differences() {
+    thrown.expect(AssertionError.class,
+        "expected:<color[r=0,g=0,b=255]> but was:<color[r=0,g=10,b=255]> at pixel [4,2]; "
+            + "2 of 100 pixels differ, max color difference:<55>, differences within [x=1, y=2, w=4, h=6]");
+    new ImageAssert(image(10, 10, BLUE)).reportingAllDifferences().isEqualTo(expected);
+  }
+
+  @Test
+  public void should_pass_if_ratio_of_different_pixels_is_within_tolerance() {
+    new ImageAssert(image(10, 10, BLUE)).withMismatchTolerance(0.02).isEqualTo(expected);
+  }
+
+  @Test
+  public void should_fail_if_ratio_of_different_pixels_is_not_within_tolerance() {
+    thrown.expect(AssertionError.class,
+        "expected:<color[r=0,g=0,b=255]> but was:<color[r=0,g=10,b=255]> at pixel [4,2]; "
+            + "2 of 100 pixels differ, max color difference:<55>, differences within [x=1, y=2, w=4, h=6]");
+    new ImageAssert(image(10, 10, BLUE)).withMismatchTolerance(0.01).isEqualTo(expected);
+  }
+
+  @Test
+  public void should_throw_error_if_tolerance_is_not_between_zero_and_one() {
+    thrown.expect(IllegalArgumentException.class, "The mismatch tolerance should be between 0 and 1");
+    new ImageAssert(image(10, 10, BLUE)).withMismatchTolerance(1.5);
+  }
+
+  @Test
+  public void should_write_diff_image_if_images_are_different() throws IOException {
+    try {
+      new ImageAssert(image(10, 10, BLUE)).writingDiffImageTo(diffImageFile).isEqualTo(expected);
+    } catch (AssertionError e) {
+      BufferedImage diffImage = ImageIO.read(diffImageFile);
+      assertEquals(Color.RED.getRGB(), diffImage.getRGB(4, 2));
+      assertEquals(Color.RED.getRGB(), diffImage.getRGB(1, 7));
+      return;
+    }
+    throw new AssertionError("Expecting images to be different");
+  }
+}
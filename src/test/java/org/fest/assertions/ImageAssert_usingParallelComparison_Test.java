@@ -0,0 +1,69 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static java.awt.Color.BLUE;
+import static org.fest.assertions.Images.image;
+import static org.fest.assertions.Threshold.threshold;
+import static org.fest.test.ExpectedException.none;
+
+/**
+ * Tests for {@link ImageAssert#usingParallelComparison()}.
+ */
+public class ImageAssert_usingParallelComparison_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_and_expected_are_equal() {
+    new ImageAssert(image(200, 100, BLUE)).usingParallelComparison().isEqualTo(image(200, 100, BLUE));
+  }
+
+  @Test
+  public void should_pass_if_colors_are_similar_using_threshold() {
+    BufferedImage expected = image(200, 100, BLUE);
+    expected.setRGB(150, 80, new Color(0, 2, 255).getRGB());
+    new ImageAssert(image(200, 100, BLUE)).usingParallelComparison().isEqualTo(expected, threshold(2));
+  }
+
+  @Test
+  public void should_fail_reporting_first_different_pixel_in_row_major_order() {
+    thrown.expect(AssertionError.class,
+        "expected:<color[r=0,g=0,b=255]> but was:<color[r=0,g=10,b=255]> at pixel [120,30]");
+    BufferedImage expected = image(200, 100, BLUE);
+    expected.setRGB(10, 90, new Color(0, 10, 255).getRGB());
+    expected.setRGB(120, 30, new Color(0, 10, 255).getRGB());
+    new ImageAssert(image(200, 100, BLUE)).usingParallelComparison().isEqualTo(expected);
+  }
+
+  @Test
+  public void should_compare_block_averages_in_parallel_if_comparing_block_averages() {
+    thrown.expect(AssertionError.class,
+        "expected:<color[r=0,g=0,b=255]> but was:<color[r=0,g=200,b=255]> at pixel [150,42]");
+    BufferedImage expected = image(200, 100, BLUE);
+    expected.setRGB(10, 1, new Color(0, 2, 255).getRGB());
+    expected.setRGB(150, 42, new Color(0, 200, 255).getRGB());
+    expected.setRGB(20, 90, new Color(0, 200, 255).getRGB());
+    new ImageAssert(image(200, 100, BLUE)).usingParallelComparison().comparingBlockAverages(4).isEqualTo(expected,
+        threshold(1));
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static java.awt.Color.BLUE;
+import static org.fest.assertions.Images.image;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ImageComparator#differences(int, BufferedImage)}.
+ */
+public class ImageComparator_differences_Test {
+  private static final Color DIFFERENT = new Color(0, 10, 255);
+
+  @Test
+  public void should_not_find_differences_if_images_have_same_colors() {
+    ImageDifference difference = new ImageComparator(image(5, 5, BLUE), image(5, 5, BLUE)).differences(0, null);
+    assertEquals(25, difference.pixelCount);
+    assertEquals(0, difference.mismatchCount);
+    assertEquals(0, difference.maxColorDelta);
+    assertNull(difference.firstMismatch);
+    assertNull(difference.bounds);
+  }
+
+  @Test
+  public void should_count_all_different_pixels() {
+    BufferedImage expected = image(10, 8, BLUE);
+    expected.setRGB(6, 1, DIFFERENT.getRGB());
+    expected.setRGB(2, 4, DIFFERENT.getRGB());
+    expected.setRGB(8, 6, new Color(0, 1, 255).getRGB());
+    ImageDifference difference = new ImageComparator(image(10, 8, BLUE), expected).differences(1, null);
+    assertEquals(80, difference.pixelCount);
+    assertEquals(2, difference.mismatchCount);
+    assertEquals(10, difference.maxColorDelta);
+    assertEquals(new Point(6, 1), difference.firstMismatch);
+    assertEquals(new Rectangle(2, 1, 5, 4), difference.bounds);
+    assertEquals(0.025, difference.mismatchRatio(), 0);
+  }
+
+  @Test
+  public void should_draw_different_pixels_in_red() {
+    BufferedImage expected = image(5, 5, BLUE);
+    expected.setRGB(3, 2, DIFFERENT.getRGB());
+    BufferedImage diffImage = new BufferedImage(5, 5, BufferedImage.TYPE_INT_RGB);
+    new ImageComparator(image(5, 5, BLUE), expected).differences(0, diffImage);
+    assertEquals(Color.RED.getRGB(), diffImage.getRGB(3, 2));
+    assertFalse(Color.RED.getRGB() == diffImage.getRGB(2, 2));
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static java.awt.Color.BLUE;
+import static org.fest.assertions.Images.image;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link ImageComparator#firstMismatchInBlocksInParallel(int, int)}.
+ */
+public class ImageComparator_firstMismatchInBlocksInParallel_Test {
+  private static final Color DIFFERENT = new Color(0, 200, 255);
+
+  @Test
+  public void should_return_null_if_differences_cancel_out_within_blocks() {
+    BufferedImage expected = image(300, 200, new Color(0, 100, 255));
+    expected.setRGB(1, 150, new Color(0, 90, 255).getRGB());
+    expected.setRGB(2, 150, new Color(0, 110, 255).getRGB());
+    ImageComparator comparator = new ImageComparator(image(300, 200, new Color(0, 100, 255)), expected);
+    assertNull(comparator.firstMismatchInBlocksInParallel(0, 4));
+  }
+
+  @Test
+  public void should_return_first_different_pixel_in_first_different_block_when_bands_have_differences() {
+    BufferedImage expected = image(300, 200, BLUE);
+    expected.setRGB(10, 199, DIFFERENT.getRGB());
+    expected.setRGB(250, 121, DIFFERENT.getRGB());
+    expected.setRGB(290, 38, DIFFERENT.getRGB());
+    expected.setRGB(41, 39, DIFFERENT.getRGB());
+    for (int i = 0; i < 20; i++) {
+      ImageComparator comparator = new ImageComparator(image(300, 200, BLUE), expected);
+      assertEquals(new Point(41, 39), comparator.firstMismatchInBlocksInParallel(5, 4));
+    }
+  }
+
+  @Test
+  public void should_return_same_pixel_as_sequential_comparison() {
+    BufferedImage expected = image(64, 65, BLUE);
+    expected.setRGB(63, 64, DIFFERENT.getRGB());
+    ImageComparator comparator = new ImageComparator(image(64, 65, BLUE), expected);
+    assertEquals(comparator.firstMismatchInBlocks(5, 8), comparator.firstMismatchInBlocksInParallel(5, 8));
+  }
+}
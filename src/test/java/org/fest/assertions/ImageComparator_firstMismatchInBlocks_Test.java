@@ -0,0 +1,68 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static java.awt.Color.BLUE;
+import static org.fest.assertions.Images.image;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link ImageComparator#firstMismatchInBlocks(int, int)}.
+ */
+public class ImageComparator_firstMismatchInBlocks_Test {
+  @Test
+  public void should_return_null_if_images_have_same_colors() {
+    assertNull(new ImageComparator(image(20, 20, BLUE), image(20, 20, BLUE)).firstMismatchInBlocks(0, 4));
+  }
+
+  @Test
+  public void should_return_null_if_differences_cancel_out_within_block() {
+    BufferedImage expected = image(8, 8, new Color(0, 100, 255));
+    expected.setRGB(1, 1, new Color(0, 90, 255).getRGB());
+    expected.setRGB(2, 1, new Color(0, 110, 255).getRGB());
+    assertNull(new ImageComparator(image(8, 8, new Color(0, 100, 255)), expected).firstMismatchInBlocks(0, 4));
+  }
+
+  @Test
+  public void should_return_first_different_pixel_in_first_different_block() {
+    BufferedImage expected = image(10, 10, BLUE);
+    expected.setRGB(1, 7, new Color(0, 200, 255).getRGB());
+    expected.setRGB(9, 3, new Color(0, 200, 255).getRGB());
+    expected.setRGB(8, 2, new Color(0, 200, 255).getRGB());
+    assertEquals(new Point(8, 2), new ImageComparator(image(10, 10, BLUE), expected).firstMismatchInBlocks(5, 4));
+  }
+
+  @Test
+  public void should_compare_partial_blocks_at_edges() {
+    BufferedImage expected = image(10, 10, BLUE);
+    expected.setRGB(9, 9, new Color(0, 200, 255).getRGB());
+    assertEquals(new Point(9, 9), new ImageComparator(image(10, 10, BLUE), expected).firstMismatchInBlocks(5, 4));
+  }
+
+  @Test
+  public void should_return_same_pixel_as_pixel_comparison_if_block_size_is_one() {
+    BufferedImage expected = image(6, 6, BLUE);
+    expected.setRGB(4, 1, new Color(0, 2, 255).getRGB());
+    expected.setRGB(2, 3, new Color(0, 2, 255).getRGB());
+    ImageComparator comparator = new ImageComparator(image(6, 6, BLUE), expected);
+    assertEquals(comparator.firstMismatch(1), comparator.firstMismatchInBlocks(1, 1));
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static java.awt.Color.BLUE;
+import static org.fest.assertions.Images.image;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link ImageComparator#firstMismatchInParallel(int)}.
+ */
+public class ImageComparator_firstMismatchInParallel_Test {
+  private static final Color DIFFERENT = new Color(0, 10, 255);
+
+  @Test
+  public void should_return_null_if_images_have_same_colors() {
+    assertNull(new ImageComparator(image(300, 200, BLUE), image(300, 200, BLUE)).firstMismatchInParallel(0));
+  }
+
+  @Test
+  public void should_return_first_different_pixel_in_row_major_order_when_bands_have_differences() {
+    BufferedImage expected = image(300, 200, BLUE);
+    expected.setRGB(10, 199, DIFFERENT.getRGB());
+    expected.setRGB(250, 120, DIFFERENT.getRGB());
+    expected.setRGB(40, 37, DIFFERENT.getRGB());
+    expected.setRGB(299, 36, DIFFERENT.getRGB());
+    for (int i = 0; i < 20; i++) {
+      assertEquals(new Point(299, 36), new ImageComparator(image(300, 200, BLUE), expected).firstMismatchInParallel(1));
+    }
+  }
+
+  @Test
+  public void should_return_same_pixel_as_sequential_comparison() {
+    BufferedImage expected = image(64, 64, BLUE);
+    expected.setRGB(63, 63, DIFFERENT.getRGB());
+    ImageComparator comparator = new ImageComparator(image(64, 64, BLUE), expected);
+    assertEquals(comparator.firstMismatch(1), comparator.firstMismatchInParallel(1));
+  }
+
+  @Test
+  public void should_compare_single_row_images() {
+    BufferedImage expected = image(50, 1, BLUE);
+    expected.setRGB(7, 0, DIFFERENT.getRGB());
+    assertEquals(new Point(7, 0), new ImageComparator(image(50, 1, BLUE), expected).firstMismatchInParallel(1));
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static java.awt.Color.BLUE;
+import static org.fest.assertions.Images.image;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link ImageComparator#firstMismatch(int)}.
+ */
+public class ImageComparator_firstMismatch_Test {
+  @Test
+  public void should_return_null_if_images_have_same_colors() {
+    assertNull(new ImageComparator(image(5, 5, BLUE), image(5, 5, BLUE)).firstMismatch(0));
+  }
+
+  @Test
+  public void should_return_null_if_colors_are_similar_using_threshold() {
+    BufferedImage expected = image(5, 5, BLUE);
+    expected.setRGB(3, 2, new Color(1, 0, 254).getRGB());
+    assertNull(new ImageComparator(image(5, 5, BLUE), expected).firstMismatch(1));
+  }
+
+  @Test
+  public void should_return_first_different_pixel_in_row_major_order() {
+    BufferedImage expected = image(5, 5, BLUE);
+    expected.setRGB(4, 1, new Color(0, 2, 255).getRGB());
+    expected.setRGB(0, 3, new Color(0, 2, 255).getRGB());
+    expected.setRGB(2, 1, new Color(0, 2, 255).getRGB());
+    assertEquals(new Point(2, 1), new ImageComparator(image(5, 5, BLUE), expected).firstMismatch(1));
+  }
+
+  @Test
+  public void should_ignore_alpha() {
+    BufferedImage expected = image(5, 5, new Color(0, 0, 255, 100));
+    assertNull(new ImageComparator(image(5, 5, BLUE), expected).firstMismatch(0));
+  }
+}
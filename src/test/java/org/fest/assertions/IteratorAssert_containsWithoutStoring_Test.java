@@ -0,0 +1,75 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link IteratorAssert#containsWithoutStoring(Object...)}.
+ */
+public class IteratorAssert_containsWithoutStoring_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_contains_given_objects() {
+    new IteratorAssert(newArrayList("Luke", "Yoda", "Leia").iterator()).containsWithoutStoring("Leia", "Luke");
+  }
+
+  @Test
+  public void should_stop_reading_once_all_given_objects_were_found() {
+    NaturalNumbers actual = new NaturalNumbers();
+    new IteratorAssert(actual).containsWithoutStoring(6, 2);
+    assertEquals(7, actual.read);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new IteratorAssert(null).containsWithoutStoring("Luke");
+  }
+
+  @Test
+  public void should_fail_if_actual_does_not_contain_given_objects() {
+    thrown.expect(AssertionError.class, "<['Luke', 'Yoda']> does not contain element(s):<['Han']>");
+    new IteratorAssert(newArrayList("Luke", "Yoda").iterator()).containsWithoutStoring("Yoda", "Han");
+  }
+
+  @Test
+  public void should_show_first_elements_only_if_actual_does_not_contain_given_objects() {
+    String message = "[A Test] <[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, ...]> does not contain element(s):<[-1]>";
+    thrown.expect(AssertionError.class, message);
+    new IteratorAssert(newArrayList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10).iterator()).as("A Test")
+        .containsWithoutStoring(-1);
+  }
+
+  @Test
+  public void should_fail_if_elements_of_actual_were_already_read() {
+    thrown.expect(IllegalStateException.class);
+    new IteratorAssert(newArrayList("Luke", "Yoda").iterator()).containsWithoutStoring("Luke").contains("Yoda");
+  }
+
+  @Test
+  public void should_read_stored_elements_of_actual() {
+    new IteratorAssert(newArrayList("Luke", "Yoda").iterator()).contains("Yoda").containsWithoutStoring("Luke", "Yoda");
+  }
+}
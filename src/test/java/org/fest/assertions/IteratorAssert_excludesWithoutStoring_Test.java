@@ -0,0 +1,62 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link IteratorAssert#excludesWithoutStoring(Object...)}.
+ */
+public class IteratorAssert_excludesWithoutStoring_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_does_not_contain_given_objects() {
+    new IteratorAssert(newArrayList("Luke", "Yoda").iterator()).excludesWithoutStoring("Han", "Leia");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new IteratorAssert(null).excludesWithoutStoring("Luke");
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_given_objects() {
+    thrown.expect(AssertionError.class, "<['Luke', 'Yoda']> does not exclude element(s):<['Yoda']>");
+    new IteratorAssert(newArrayList("Luke", "Yoda").iterator()).excludesWithoutStoring("Han", "Yoda");
+  }
+
+  @Test
+  public void should_stop_reading_at_first_element_found() {
+    NaturalNumbers actual = new NaturalNumbers();
+    try {
+      new IteratorAssert(actual).excludesWithoutStoring(3, 5);
+      fail("expecting AssertionError");
+    } catch (AssertionError e) {
+      assertEquals("<[0, 1, 2, 3, ...]> does not exclude element(s):<[3]>", e.getMessage());
+    }
+    assertEquals(4, actual.read);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link IteratorAssert#hasSizeAtLeast(int)}.
+ */
+public class IteratorAssert_hasSizeAtLeast_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_size_of_actual_is_equal_to_minimum() {
+    new IteratorAssert(newArrayList("Luke", "Yoda").iterator()).hasSizeAtLeast(2);
+  }
+
+  @Test
+  public void should_stop_reading_once_minimum_is_reached() {
+    NaturalNumbers actual = new NaturalNumbers();
+    new IteratorAssert(actual).hasSizeAtLeast(1000);
+    assertEquals(1000, actual.read);
+  }
+
+  @Test
+  public void should_not_read_actual_if_minimum_is_not_greater_than_zero() {
+    NaturalNumbers actual = new NaturalNumbers();
+    new IteratorAssert(actual).hasSizeAtLeast(0).hasSizeAtLeast(-1).hasSizeAtLeast(2);
+    assertEquals(2, actual.read);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new IteratorAssert(null).hasSizeAtLeast(1);
+  }
+
+  @Test
+  public void should_fail_if_size_of_actual_is_less_than_minimum() {
+    thrown.expect(AssertionError.class, "expected size of at least:<3> but was:<2> for <['Luke', 'Yoda']>");
+    new IteratorAssert(newArrayList("Luke", "Yoda").iterator()).hasSizeAtLeast(3);
+  }
+
+  @Test
+  public void should_fail_with_custom_message_if_size_of_actual_is_less_than_minimum() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new IteratorAssert(newArrayList("Luke").iterator()).overridingErrorMessage("My custom message").hasSizeAtLeast(3);
+  }
+}
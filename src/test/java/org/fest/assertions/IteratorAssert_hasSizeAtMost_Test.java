@@ -0,0 +1,78 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Iterator;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link IteratorAssert#hasSizeAtMost(int)}.
+ */
+public class IteratorAssert_hasSizeAtMost_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_size_of_actual_is_equal_to_maximum() {
+    new IteratorAssert(newArrayList("Luke", "Yoda").iterator()).hasSizeAtMost(2);
+  }
+
+  @Test
+  public void should_read_whole_actual_if_maximum_is_largest_int() {
+    Iterator<String> actual = newArrayList("Luke", "Yoda").iterator();
+    new IteratorAssert(actual).hasSizeAtMost(Integer.MAX_VALUE);
+    assertFalse(actual.hasNext());
+  }
+
+  @Test
+  public void should_throw_error_if_maximum_is_negative() {
+    thrown.expect(IllegalArgumentException.class, "The maximum size should not be negative");
+    new IteratorAssert(newArrayList("Luke").iterator()).hasSizeAtMost(-1);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new IteratorAssert(null).hasSizeAtMost(1);
+  }
+
+  @Test
+  public void should_fail_if_size_of_actual_is_greater_than_maximum() {
+    thrown.expect(AssertionError.class, "expected size of at most:<1> but was at least:<2> for <['Luke', 'Yoda']>");
+    new IteratorAssert(newArrayList("Luke", "Yoda").iterator()).hasSizeAtMost(1);
+  }
+
+  @Test
+  public void should_stop_reading_once_maximum_is_exceeded() {
+    NaturalNumbers actual = new NaturalNumbers();
+    try {
+      new IteratorAssert(actual).hasSizeAtMost(2);
+      fail("expecting AssertionError");
+    } catch (AssertionError e) {
+      assertEquals("expected size of at most:<2> but was at least:<3> for <[0, 1, 2, ...]>", e.getMessage());
+    }
+    assertEquals(3, actual.read);
+  }
+}
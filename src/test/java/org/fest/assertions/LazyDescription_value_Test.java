@@ -0,0 +1,40 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link LazyDescription#value()}.
+ */
+public class LazyDescription_value_Test {
+  @Test
+  public void should_compute_value_only_once() {
+    final int[] computeCount = {0};
+    LazyDescription description = new LazyDescription() {
+      @Override
+      protected String computeValue() {
+        computeCount[0]++;
+        return "A Test";
+      }
+    };
+    assertEquals(0, computeCount[0]);
+    assertEquals("A Test", description.value());
+    assertEquals("A Test", description.value());
+    assertEquals(1, computeCount[0]);
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.LinkedList;
+
+import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+
+/**
+ * Tests for {@link ListAssert#containsExactlyInAnyOrder(Object...)}.
+ */
+public class ListAssert_containsExactlyInAnyOrder_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_pass_if_actual_contains_given_objects_in_different_order() {
+    new ListAssert(newArrayList("Luke", "Leia", "Luke")).containsExactlyInAnyOrder("Luke", "Luke", "Leia");
+  }
+
+  @Test
+  public void should_pass_if_actual_is_LinkedList_containing_given_objects() {
+    new ListAssert(new LinkedList<String>(newArrayList("Luke", null))).containsExactlyInAnyOrder(null, "Luke");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expect(AssertionError.class, actualIsNull());
+    new ListAssert(null).containsExactlyInAnyOrder("Luke");
+  }
+
+  @Test
+  public void should_throw_error_if_given_array_is_null() {
+    thrown.expect(NullPointerException.class);
+    Object[] objects = null;
+    new ListAssert(newArrayList("Luke")).containsExactlyInAnyOrder(objects);
+  }
+
+  @Test
+  public void should_fail_listing_each_unexpected_and_missing_object_once_in_order() {
+    String message = "<['Han', 'Luke', 'Han', 'Yoda']> does not contain exactly in any order:<['Leia', 'Yoda', 'Leia', "
+        + "'Anakin']>, unexpected (with counts):<{'Han'=2, 'Luke'=1}>, missing (with counts):<{'Leia'=2, 'Anakin'=1}>";
+    thrown.expect(AssertionError.class, message);
+    new ListAssert(newArrayList("Han", "Luke", "Han", "Yoda")).containsExactlyInAnyOrder("Leia", "Yoda", "Leia",
+        "Anakin");
+  }
+
+  @Test
+  public void should_fail_and_display_description_if_actual_has_unexpected_elements() {
+    String message = "[A Test] <['Luke', 'Han']> does not contain exactly in any order:<['Luke']>, "
+        + "unexpected (with counts):<{'Han'=1}>";
+    thrown.expect(AssertionError.class, message);
+    new ListAssert(newArrayList("Luke", "Han")).as("A Test").containsExactlyInAnyOrder("Luke");
+  }
+
+  @Test
+  public void should_fail_with_custom_message_if_actual_does_not_contain_given_objects() {
+    thrown.expect(AssertionError.class, "My custom message");
+    new ListAssert(newArrayList("Luke")).overridingErrorMessage("My custom message").containsExactlyInAnyOrder("Leia");
+  }
+}
@@ -19,11 +19,15 @@ import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
 
 import static org.fest.assertions.FailureMessages.actualIsNull;
+import static org.fest.assertions.ListDifferences.MAX_DIFFS;
 import static org.fest.test.ExpectedException.none;
 import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.*;
 
 /**
  * Tests for {@link ListAssert#containsExactly(Object...)}.
@@ -67,16 +71,58 @@ public class ListAssert_containsExactly_Test {
 
   @Test
   public void should_fail_if_actual_does_not_contain_exactly_the_expected_Objects() {
-    thrown.expect(AssertionError.class, "expected:<['[Anakin]']> but was:<['[Luke', 'Leia]']>");
+    thrown.expect(AssertionError.class, differences(""));
     new ListAssert(list).containsExactly("Anakin");
   }
 
   @Test
   public void should_fail_and_display_description_if_actual_does_not_contain_exactly_the_expected_Objects() {
-    thrown.expect(AssertionError.class, "[A Test] expected:<['[Anakin]']> but was:<['[Luke', 'Leia]']>");
+    thrown.expect(AssertionError.class, differences("[A Test] "));
     new ListAssert(list).as("A Test").containsExactly("Anakin");
   }
 
+  private static String differences(String description) {
+    return String.format("%slist:<['Luke', 'Leia']> does not contain exactly:<['Anakin']>, differences:%n"
+        + "index:<0>, unexpected:<'Luke'>%n"
+        + "index:<0>, missing:<'Anakin'>%n"
+        + "index:<1>, unexpected:<'Leia'>", description);
+  }
+
+  @Test
+  public void should_fail_and_display_moved_elements_if_actual_contains_expected_Objects_in_different_order() {
+    String message = String.format("list:<['Luke', 'Leia', 'Han']> does not contain exactly:<['Leia', 'Han', 'Luke']>, "
+        + "differences:%nindex:<0>, moved:<'Luke'> to index:<2>");
+    thrown.expect(AssertionError.class, message);
+    new ListAssert(newArrayList("Luke", "Leia", "Han")).containsExactly("Leia", "Han", "Luke");
+  }
+
+  @Test
+  public void should_pass_if_actual_is_LinkedList_containing_exactly_the_expected_Objects() {
+    new ListAssert(new LinkedList<String>(list)).containsExactly("Luke", "Leia");
+  }
+
+  @Test
+  public void should_not_say_comparison_stopped_if_there_are_exactly_maximum_number_of_differences() {
+    try {
+      new ListAssert(numbers(MAX_DIFFS)).containsExactly();
+      fail();
+    } catch (AssertionError e) {
+      assertTrue(e.getMessage().endsWith(String.format("index:<%d>, unexpected:<%d>", MAX_DIFFS - 1, MAX_DIFFS - 1)));
+    }
+  }
+
+  @Test
+  public void should_fail_saying_comparison_stopped_if_too_many_elements_are_different() {
+    try {
+      new ListAssert(numbers(MAX_DIFFS + 1)).containsExactly();
+      fail();
+    } catch (AssertionError e) {
+      String lastDifference = String.format("index:<%d>, unexpected:<%d>", MAX_DIFFS - 1, MAX_DIFFS - 1);
+      String note = String.format("%n(comparison stopped after 100 differences)");
+      assertTrue(e.getMessage().endsWith(lastDifference + note));
+    }
+  }
+
   @Test
   public void should_fail_with_custom_message_if_actual_does_not_contain_exactly_the_expected_Objects() {
     thrown.expect(AssertionError.class, "My custom message");
@@ -88,4 +134,12 @@ public class ListAssert_containsExactly_Test {
     thrown.expect(AssertionError.class, "My custom message");
     new ListAssert(list).as("A Test").overridingErrorMessage("My custom message").containsExactly("Anakin");
   }
-}
\ No newline at end of file
+
+  private static List<Integer> numbers(int count) {
+    List<Integer> numbers = new ArrayList<Integer>();
+    for (int i = 0; i < count; i++) {
+      numbers.add(i);
+    }
+    return numbers;
+  }
+}
@@ -19,6 +19,7 @@ import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 
+import java.util.LinkedList;
 import java.util.List;
 
 import static java.util.Collections.emptyList;
@@ -47,6 +48,21 @@ public class ListAssert_containsSequence_Test {
     new ListAssert(list).containsSequence("Anakin", "Leia").containsSequence("Leia", "Han");
   }
 
+  @Test
+  public void should_pass_if_sequence_starts_at_later_occurrence_of_its_first_element() {
+    new ListAssert(newArrayList("Anakin", "Leia", "Anakin", "Han")).containsSequence("Anakin", "Han");
+  }
+
+  @Test
+  public void should_pass_if_sequence_overlaps_partial_match() {
+    new ListAssert(newArrayList("Leia", "Leia", "Leia", "Han")).containsSequence("Leia", "Leia", "Han");
+  }
+
+  @Test
+  public void should_pass_if_actual_is_LinkedList_containing_sequence() {
+    new ListAssert(new LinkedList<String>(list)).containsSequence("Leia", "Han");
+  }
+
   @Test
   public void should_pass_if_actual_and_expected_are_equal() {
     new ListAssert(list).containsSequence("Anakin", "Leia", "Han");
@@ -19,6 +19,7 @@ import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 
+import java.util.LinkedList;
 import java.util.List;
 
 import static java.util.Collections.emptyList;
@@ -49,6 +50,17 @@ public class ListAssert_endsWith_Test {
     new ListAssert(list).endsWith("Leia");
   }
 
+  @Test
+  public void should_pass_if_actual_is_LinkedList_that_ends_with_sequence() {
+    new ListAssert(new LinkedList<String>(list)).endsWith("Leia");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_LinkedList_that_does_not_end_with_sequence() {
+    thrown.expect(AssertionError.class, "list:<['Anakin', 'Leia']> does not end with the sequence:<['Anakin']>");
+    new ListAssert(new LinkedList<String>(list)).endsWith("Anakin");
+  }
+
   @Test
   public void should_pass_if_actual_and_expected_are_equal() {
     new ListAssert(list).endsWith("Anakin", "Leia");
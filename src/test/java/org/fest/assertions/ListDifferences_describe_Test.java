@@ -0,0 +1,112 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.fest.assertions.ListDifferences.MAX_DIFFS;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ListDifferences#describe()}.
+ */
+public class ListDifferences_describe_Test {
+  @Test
+  public void should_return_no_differences_if_lists_are_equal() {
+    assertTrue(describe(asList(1, 2, 3), asList(1, 2, 3)).isEmpty());
+  }
+
+  @Test
+  public void should_describe_unexpected_and_missing_elements() {
+    List<String> differences = describe(asList(1, 2, 3, 4), asList(1, 5, 3, 4, 6));
+    assertEquals(newArrayList("index:<1>, unexpected:<2>", "index:<1>, missing:<5>", "index:<4>, missing:<6>"),
+        differences);
+  }
+
+  @Test
+  public void should_describe_moved_elements() {
+    List<String> differences = describe(asList(1, 2, 3, 4, 5), asList(1, 3, 4, 2, 5));
+    assertEquals(newArrayList("index:<1>, moved:<2> to index:<3>"), differences);
+  }
+
+  @Test
+  public void should_find_single_difference_in_large_lists() {
+    List<Integer> actual = numbers(100000);
+    List<Integer> expected = numbers(100000);
+    expected.set(60000, -1);
+    assertEquals(newArrayList("index:<60000>, unexpected:<60000>", "index:<60000>, missing:<-1>"),
+        describe(actual, expected));
+  }
+
+  @Test
+  public void should_return_one_more_than_maximum_number_of_differences_if_there_are_more() {
+    List<Integer> expected = numbers(10000);
+    for (int i = 0; i < expected.size(); i++) {
+      expected.set(i, -i - 1);
+    }
+    assertEquals(MAX_DIFFS + 1, describe(numbers(10000), expected).size());
+  }
+
+  @Test
+  public void should_not_describe_elements_equal_at_same_index_if_edit_distance_is_too_large() {
+    List<Integer> actual = numbers(20000);
+    List<Integer> expected = numbers(20000);
+    for (int i = 10; i < expected.size(); i += 15) {
+      expected.set(i, -i);
+    }
+    List<String> differences = describe(actual, expected);
+    assertEquals(MAX_DIFFS + 1, differences.size());
+    assertEquals(newArrayList("index:<10>, unexpected:<10>", "index:<10>, missing:<-10>", "index:<25>, unexpected:<25>",
+        "index:<25>, missing:<-25>"), differences.subList(0, 4));
+    for (String difference : differences) {
+      assertFalse(difference.contains("moved"));
+    }
+  }
+
+  @Test
+  public void should_describe_both_unexpected_and_missing_elements_if_there_are_more_than_maximum_number() {
+    List<Integer> actual = numbers(300);
+    List<Integer> expected = newArrayList();
+    for (int i = 150; i < 300; i++) {
+      expected.add(i);
+    }
+    for (int i = 1; i <= 150; i++) {
+      expected.add(-i);
+    }
+    List<String> differences = describe(actual, expected);
+    assertEquals(MAX_DIFFS + 1, differences.size());
+    assertEquals("index:<0>, unexpected:<0>", differences.get(0));
+    assertEquals("index:<49>, unexpected:<49>", differences.get(49));
+    assertEquals("index:<150>, missing:<-1>", differences.get(50));
+  }
+
+  private static List<String> describe(List<?> actual, List<?> expected) {
+    return new ListDifferences(actual, expected).describe();
+  }
+
+  private static List<Integer> numbers(int count) {
+    List<Integer> numbers = newArrayList();
+    for (int i = 0; i < count; i++) {
+      numbers.add(i);
+    }
+    return numbers;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link LongHashSet#mark(long)}.
+ */
+public class LongHashSet_mark_Test {
+  private LongHashSet set;
+
+  @Before
+  public void setUp() {
+    set = new LongHashSet();
+    set.add(0L);
+    set.add(6L);
+    set.add(Long.MIN_VALUE);
+  }
+
+  @Test
+  public void should_mark_key_in_set_only_once() {
+    assertTrue(set.mark(6L));
+    assertFalse(set.mark(6L));
+    assertTrue(set.isMarked(6L));
+  }
+
+  @Test
+  public void should_not_mark_key_not_in_set() {
+    assertFalse(set.mark(8L));
+    assertFalse(set.isMarked(8L));
+    assertFalse(set.contains(8L));
+  }
+
+  @Test
+  public void should_keep_marks_when_growing() {
+    set.mark(0L);
+    set.mark(Long.MIN_VALUE);
+    for (long key = 100; key < 1000; key++) {
+      set.add(key);
+    }
+    assertEquals(903, set.size());
+    assertTrue(set.isMarked(0L));
+    assertTrue(set.isMarked(Long.MIN_VALUE));
+    assertFalse(set.isMarked(6L));
+    assertTrue(set.contains(999L));
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.assertions.FileContentComparator.LineDiff;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.fest.assertions.FileContentComparator.LineDiff.lineDiff;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link MyersDiff#diffsOfFirstLines(int, int)}.
+ */
+public class MyersDiff_diffsOfFirstLines_Test {
+  @Test
+  public void should_not_report_lines_left_after_last_equal_ones() {
+    List<String> actual = newArrayList("x", "b", "c", "d", "e");
+    List<String> expected = newArrayList("a", "b", "new", "c", "d");
+    List<LineDiff> diffs = newArrayList(lineDiff(10, "x", "a"), lineDiff(12, null, "new"));
+    assertEquals(diffs, new MyersDiff(actual, expected, 10).diffsOfFirstLines(100, 100));
+  }
+
+  @Test
+  public void should_report_lines_after_last_equal_ones_as_changed() {
+    List<String> actual = newArrayList("a", "x", "y", "z");
+    List<String> expected = newArrayList("a", "b", "c");
+    List<LineDiff> diffs = newArrayList(lineDiff(1, "x", "b"), lineDiff(2, "y", "c"));
+    assertEquals(diffs, new MyersDiff(actual, expected, 0).diffsOfFirstLines(100, 100));
+  }
+
+  @Test
+  public void should_compare_only_lines_at_same_index_if_edit_distance_is_too_large() {
+    List<String> actual = newArrayList("x", "b", "y");
+    List<String> expected = newArrayList("a", "b", "c", "d");
+    List<LineDiff> diffs = newArrayList(lineDiff(0, "x", "a"), lineDiff(2, "y", "c"));
+    assertEquals(diffs, new MyersDiff(actual, expected, 0).diffsOfFirstLines(0, 100));
+  }
+}
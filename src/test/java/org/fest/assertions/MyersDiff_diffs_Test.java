@@ -0,0 +1,90 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.assertions.FileContentComparator.LineDiff;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.fest.assertions.FileContentComparator.LineDiff.lineDiff;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link MyersDiff#diffs(int, int)}.
+ */
+public class MyersDiff_diffs_Test {
+  @Test
+  public void should_not_return_any_diffs_for_equal_lines() {
+    List<String> lines = newArrayList("a", "b", "c");
+    assertEquals(0, new MyersDiff(lines, newArrayList("a", "b", "c"), 0).diffs(100, 100).size());
+  }
+
+  @Test
+  public void should_report_only_line_inserted_at_top() {
+    List<String> actual = newArrayList("new", "a", "b", "c", "d");
+    List<String> expected = newArrayList("a", "b", "c", "d");
+    assertEquals(newArrayList(lineDiff(0, "new", null)), new MyersDiff(actual, expected, 0).diffs(100, 100));
+  }
+
+  @Test
+  public void should_report_only_line_missing_in_the_middle() {
+    List<String> actual = newArrayList("a", "b", "d");
+    List<String> expected = newArrayList("a", "b", "c", "d");
+    assertEquals(newArrayList(lineDiff(12, null, "c")), new MyersDiff(actual, expected, 10).diffs(100, 100));
+  }
+
+  @Test
+  public void should_report_changed_lines() {
+    List<String> actual = newArrayList("a", "x", "y", "d", "e");
+    List<String> expected = newArrayList("a", "b", "c", "d", "f", "g");
+    List<LineDiff> diffs = newArrayList(lineDiff(1, "x", "b"), lineDiff(2, "y", "c"), lineDiff(4, "e", "f"),
+        lineDiff(5, null, "g"));
+    assertEquals(diffs, new MyersDiff(actual, expected, 0).diffs(100, 100));
+  }
+
+  @Test
+  public void should_report_missing_lines_at_end() {
+    List<String> actual = newArrayList("a");
+    List<String> expected = newArrayList("a", "b", "c");
+    List<LineDiff> diffs = newArrayList(lineDiff(1, null, "b"), lineDiff(1, null, "c"));
+    assertEquals(diffs, new MyersDiff(actual, expected, 0).diffs(100, 100));
+  }
+
+  @Test
+  public void should_return_at_most_the_given_number_of_diffs() {
+    List<String> actual = newArrayList("1", "2", "3", "4", "5");
+    List<String> expected = newArrayList("a", "b", "c", "d", "e");
+    assertEquals(newArrayList(lineDiff(0, "1", "a"), lineDiff(1, "2", "b")),
+        new MyersDiff(actual, expected, 0).diffs(100, 2));
+  }
+
+  @Test
+  public void should_consider_all_lines_changed_if_edit_distance_is_too_large() {
+    List<String> actual = newArrayList("new", "a", "b");
+    List<String> expected = newArrayList("a", "b");
+    List<LineDiff> diffs = newArrayList(lineDiff(0, "new", "a"), lineDiff(1, "a", "b"), lineDiff(2, "b", null));
+    assertEquals(diffs, new MyersDiff(actual, expected, 0).diffs(0, 100));
+  }
+
+  @Test
+  public void should_not_report_lines_equal_at_same_index_if_edit_distance_is_too_large() {
+    List<String> actual = newArrayList("x", "b", "y", "d");
+    List<String> expected = newArrayList("a", "b", "c", "d", "e");
+    List<LineDiff> diffs = newArrayList(lineDiff(0, "x", "a"), lineDiff(2, "y", "c"), lineDiff(4, null, "e"));
+    assertEquals(diffs, new MyersDiff(actual, expected, 0).diffs(0, 100));
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import java.util.Iterator;
+
+/**
+ * Endless {@code Iterator} over the natural numbers, starting at zero, that counts how many elements were read.
+ */
+class NaturalNumbers implements Iterator<Integer> {
+  int read;
+
+  @Override
+  public boolean hasNext() {
+    return true;
+  }
+
+  @Override
+  public Integer next() {
+    return read++;
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException();
+  }
+}
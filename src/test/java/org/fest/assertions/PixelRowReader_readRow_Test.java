@@ -0,0 +1,74 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+
+import static java.awt.image.BufferedImage.*;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link PixelRowReader#readRow(int, int[])}.
+ */
+public class PixelRowReader_readRow_Test {
+  @Test
+  public void should_read_same_colors_as_getRGB_from_int_rgb_image() {
+    assertReadsSameColorsAsGetRGB(image(TYPE_INT_RGB));
+  }
+
+  @Test
+  public void should_read_same_colors_as_getRGB_from_int_argb_image() {
+    assertReadsSameColorsAsGetRGB(image(TYPE_INT_ARGB));
+  }
+
+  @Test
+  public void should_read_same_colors_as_getRGB_from_3_byte_bgr_image() {
+    assertReadsSameColorsAsGetRGB(image(TYPE_3BYTE_BGR));
+  }
+
+  @Test
+  public void should_read_same_colors_as_getRGB_from_image_of_any_other_type() {
+    assertReadsSameColorsAsGetRGB(image(TYPE_USHORT_565_RGB));
+  }
+
+  @Test
+  public void should_read_same_colors_as_getRGB_from_subimage() {
+    assertReadsSameColorsAsGetRGB(image(TYPE_INT_RGB).getSubimage(1, 2, 3, 2));
+    assertReadsSameColorsAsGetRGB(image(TYPE_3BYTE_BGR).getSubimage(1, 2, 3, 2));
+  }
+
+  private static BufferedImage image(int type) {
+    BufferedImage image = new BufferedImage(5, 4, type);
+    for (int y = 0; y < image.getHeight(); y++) {
+      for (int x = 0; x < image.getWidth(); x++) {
+        image.setRGB(x, y, (x * 60) << 24 | (y * 50) << 16 | (x * 40) << 8 | (x + y) * 20);
+      }
+    }
+    return image;
+  }
+
+  private static void assertReadsSameColorsAsGetRGB(BufferedImage image) {
+    PixelRowReader reader = PixelRowReader.readerFor(image);
+    int[] row = new int[image.getWidth()];
+    for (int y = 0; y < image.getHeight(); y++) {
+      reader.readRow(y, row);
+      for (int x = 0; x < image.getWidth(); x++) {
+        assertEquals(image.getRGB(x, y), row[x]);
+      }
+    }
+  }
+}
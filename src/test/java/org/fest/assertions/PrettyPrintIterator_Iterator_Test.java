@@ -16,6 +16,7 @@ package org.fest.assertions;
 
 import org.fest.assertions.IteratorAssert.PrettyPrintIterator;
 import org.fest.test.ExpectedException;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Rule;
@@ -23,6 +24,8 @@ import org.junit.Test;
 
 import java.util.List;
 
+import static org.fest.assertions.Representation.defaultRepresentation;
+import static org.fest.assertions.Representation.useRepresentation;
 import static org.fest.test.ExpectedException.none;
 import static org.fest.util.Lists.newArrayList;
 import static org.fest.util.ToString.toStringOf;
@@ -51,6 +54,11 @@ public class PrettyPrintIterator_Iterator_Test {
     iterator = new PrettyPrintIterator(list.iterator());
   }
 
+  @After
+  public void tearDown() {
+    useRepresentation(defaultRepresentation());
+  }
+
   @Test
   public void should_delegate_to_Iterator() {
     assertTrue(iterator.hasNext());
@@ -70,4 +78,11 @@ public class PrettyPrintIterator_Iterator_Test {
   public void should_show_contents_in_toString() {
     assertEquals(iterator.toString(), toStringOf(list));
   }
+
+  @Test
+  public void should_show_sample_of_streamed_elements_in_toString_if_their_representation_is_truncated() {
+    useRepresentation(defaultRepresentation().withMaxLength(5));
+    iterator.stream().next();
+    assertEquals("['Yoda..., ...]", iterator.toString());
+  }
 }
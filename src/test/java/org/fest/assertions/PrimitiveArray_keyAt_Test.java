@@ -0,0 +1,59 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for {@link PrimitiveArray#keyAt(int)}.
+ */
+public class PrimitiveArray_keyAt_Test {
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_array_is_null() {
+    PrimitiveArray.of((int[]) null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_object_is_not_array_of_primitives() {
+    PrimitiveArray.of((Object) new String[0]);
+  }
+
+  @Test
+  public void should_return_equal_keys_for_NaN_like_Double_equals() {
+    PrimitiveArray array = PrimitiveArray.of(new double[]{Double.NaN, Double.NaN});
+    assertEquals(array.keyAt(0), array.keyAt(1));
+  }
+
+  @Test
+  public void should_return_different_keys_for_positive_and_negative_zero_like_Double_equals() {
+    PrimitiveArray array = PrimitiveArray.of(new double[]{0.0, -0.0});
+    assertFalse(array.keyAt(0) == array.keyAt(1));
+  }
+
+  @Test
+  public void should_return_different_keys_for_positive_and_negative_zero_like_Float_equals() {
+    PrimitiveArray array = PrimitiveArray.of(new float[]{0.0f, -0.0f});
+    assertFalse(array.keyAt(0) == array.keyAt(1));
+  }
+
+  @Test
+  public void should_return_boxed_value() {
+    PrimitiveArray array = PrimitiveArray.of((Object) new char[]{'a'});
+    assertEquals('a', array.valueAt(0));
+  }
+}
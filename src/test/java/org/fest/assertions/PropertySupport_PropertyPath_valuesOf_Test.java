@@ -0,0 +1,60 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link PropertySupport.PropertyPath#valuesOf(java.util.Collection)}.
+ */
+public class PropertySupport_PropertyPath_valuesOf_Test {
+  private Person yoda;
+  private Person luke;
+  private Person leia;
+
+  @Before
+  public void setUp() {
+    yoda = new Person(6L, "Yoda", 800, 1000L, true, 'Y', 1, 800, 0.66f, 17d, "Dagobah");
+    luke = new Person(8L, "Luke", 23, 1001L, true, 'L', 2, 1977, 1.72f, 77d, "Tatooine");
+    leia = new Person(9L, "Leia", 23, 1002L, false, 'L', 3, 1977, 1.50f, 49d, "Alderaan");
+    luke.setFather(yoda);
+  }
+
+  @Test
+  public void should_return_values_of_simple_property() {
+    List<Object> values = PropertySupport.instance().propertyPath("age").valuesOf(newArrayList(yoda, luke, null));
+    assertEquals(newArrayList(800, 23), values);
+  }
+
+  @Test
+  public void should_return_values_of_nested_property_skipping_null_intermediate_values() {
+    List<Object> values = PropertySupport.instance().propertyPath("father.name.firstName")
+        .valuesOf(newArrayList(yoda, luke, leia, null));
+    assertEquals(newArrayList("Yoda"), values);
+  }
+
+  @Test
+  public void should_keep_null_values_of_last_property() {
+    leia.setId(null);
+    List<Object> values = PropertySupport.instance().propertyPath("id").valuesOf(newArrayList(leia, luke));
+    assertEquals(newArrayList(null, 8L), values);
+  }
+}
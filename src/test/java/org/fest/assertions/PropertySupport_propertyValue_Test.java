@@ -18,7 +18,7 @@ import org.fest.util.IntrospectionError;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
 
 import static org.fest.assertions.Fail.fail;
 import static org.junit.Assert.assertEquals;
@@ -27,7 +27,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 /**
- * Tests for {@link PropertySupport#propertyValue(PropertyDescriptor, String, Object)}.
+ * Tests for {@link PropertySupport#propertyValue(Method, String, Object)}.
  *
  * @author Alex Ruiz
  */
@@ -44,11 +44,11 @@ public class PropertySupport_propertyValue_Test {
   @Test
   public void should_throw_error_if_getter_cannot_be_invoked() throws Exception {
     Name name = new Name("Leia", "Organa");
-    PropertyDescriptor realDescriptor = new PropertyDescriptor("firstName", Name.class);
+    Method readMethod = Name.class.getMethod("getFirstName");
     RuntimeException cause = new RuntimeException("Failed on purpose");
-    when(descriptor.invokeReadMethod(realDescriptor, name)).thenThrow(cause);
+    when(descriptor.invokeReadMethod(readMethod, name)).thenThrow(cause);
     try {
-      propertySupport.propertyValue(realDescriptor, "firstName", name);
+      propertySupport.propertyValue(readMethod, "firstName", name);
       fail();
     } catch (IntrospectionError e) {
       assertEquals("Unable to obtain the value in property 'firstName'", e.getMessage());
@@ -0,0 +1,53 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.fest.util.IntrospectionError;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for {@link ReadMethodCache#readMethod(String, Object)}.
+ */
+public class ReadMethodCache_readMethod_Test {
+  private ReadMethodCache cache;
+
+  @Before
+  public void setUp() {
+    cache = new ReadMethodCache();
+  }
+
+  @Test
+  public void should_return_read_method_of_property() throws Exception {
+    Method readMethod = cache.readMethod("firstName", new Name("Leia", "Organa"));
+    assertEquals(Name.class.getMethod("getFirstName"), readMethod);
+  }
+
+  @Test
+  public void should_return_cached_read_method_for_objects_of_same_type() {
+    Method readMethod = cache.readMethod("firstName", new Name("Leia", "Organa"));
+    assertSame(readMethod, cache.readMethod("firstName", new Name("Luke", "Skywalker")));
+  }
+
+  @Test(expected = IntrospectionError.class)
+  public void should_throw_error_if_property_does_not_exist() {
+    cache.readMethod("middleName", new Name("Leia", "Organa"));
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static org.fest.assertions.Representation.currentRepresentation;
+import static org.fest.assertions.Representation.defaultRepresentation;
+import static org.fest.assertions.Representation.useRepresentation;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for {@link Representation#toStringOf(Object)}.
+ */
+public class Representation_toStringOf_Test {
+  @After
+  public void tearDown() {
+    useRepresentation(defaultRepresentation());
+  }
+
+  @Test
+  public void should_return_null_if_object_is_null() {
+    assertNull(defaultRepresentation().toStringOf(null));
+  }
+
+  @Test
+  public void should_represent_small_values_as_they_are() {
+    Map<String, Object> map = new LinkedHashMap<String, Object>();
+    map.put("a", newArrayList("b", 6));
+    assertEquals("['Yoda', {'a'=['b', 6]}, [1, 2]]",
+        defaultRepresentation().toStringOf(newArrayList("Yoda", map, new int[]{1, 2})));
+  }
+
+  @Test
+  public void should_represent_self_references() {
+    List<Object> list = new ArrayList<Object>();
+    list.add(list);
+    Map<Object, Object> map = new LinkedHashMap<Object, Object>();
+    map.put("a", map);
+    Object[] array = new Object[1];
+    array[0] = array;
+    assertEquals("[(this Collection)]", defaultRepresentation().toStringOf(list));
+    assertEquals("{'a'=(this Map)}", defaultRepresentation().toStringOf(map));
+    assertEquals("[(this array)]", defaultRepresentation().toStringOf(array));
+  }
+
+  @Test
+  public void should_cap_number_of_elements() {
+    List<Integer> list = new ArrayList<Integer>();
+    for (int i = 0; i < 2000000; i++) {
+      list.add(i);
+    }
+    assertEquals("[0, 1, 2, ... (1999997 more)]", defaultRepresentation().withMaxElements(3).toStringOf(list));
+  }
+
+  @Test
+  public void should_cap_length_of_Strings() {
+    assertEquals("['Yoda', 'Luke...']", defaultRepresentation().withMaxStringLength(4).toStringOf(
+        new String[]{"Yoda", "Luke Skywalker"}));
+    assertEquals("'Lu...'", defaultRepresentation().withMaxStringLength(2).toStringOf("Luke"));
+  }
+
+  @Test
+  public void should_cap_nesting_depth() {
+    List<?> list = singletonList(singletonList(singletonList(1)));
+    assertEquals("[[[...]]]", defaultRepresentation().withMaxDepth(2).toStringOf(list));
+  }
+
+  @Test
+  public void should_cap_total_length() {
+    assertEquals("[1000, 1001, 1...", defaultRepresentation().withMaxLength(14).toStringOf(
+        new int[]{1000, 1001, 1002, 1003}));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_maximum_number_of_elements_is_not_positive() {
+    defaultRepresentation().withMaxElements(0);
+  }
+
+  @Test
+  public void should_use_current_representation_in_failure_messages() {
+    Representation representation = defaultRepresentation().withMaxElements(1);
+    useRepresentation(representation);
+    assertSame(representation, currentRepresentation());
+    assertEquals("<[1, ... (2 more)]>", Formatting.inBrackets(newArrayList(1, 2, 3)));
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link SoftAssertions#assertAll()}.
+ */
+public class SoftAssertions_assertAll_Test {
+  private SoftAssertions softly;
+
+  @Before
+  public void setUp() {
+    softly = new SoftAssertions();
+  }
+
+  @Test
+  public void should_pass_if_no_check_failed() {
+    softly.check(new Runnable() {
+      @Override
+      public void run() {
+        assertThat("Yoda").isEqualTo("Yoda");
+      }
+    });
+    softly.assertAll();
+    assertTrue(softly.errors().isEmpty());
+  }
+
+  @Test
+  public void should_report_all_failures() {
+    softly.check(new Runnable() {
+      @Override
+      public void run() {
+        assertThat(6).isGreaterThan(8);
+      }
+    });
+    softly.check(new Runnable() {
+      @Override
+      public void run() {
+        assertThat("Luke").as("name").isNull();
+      }
+    });
+    try {
+      softly.assertAll();
+    } catch (AssertionError e) {
+      String expected = String.format("2 assertions failed:%n1) actual value:<6> should be greater than:<8>%n"
+          + "2) [name] <'Luke'> should be null");
+      assertEquals(expected, e.getMessage());
+      return;
+    }
+    fail("expecting AssertionError");
+  }
+
+  @Test
+  public void should_stop_block_at_first_failure() {
+    final boolean[] continued = {false};
+    softly.check(new Runnable() {
+      @Override
+      public void run() {
+        assertThat(true).isFalse();
+        continued[0] = true;
+      }
+    });
+    assertEquals(1, softly.errors().size());
+    assertFalse(continued[0]);
+  }
+
+  @Test
+  public void should_not_capture_stack_traces_by_default() {
+    softly.check(new Runnable() {
+      @Override
+      public void run() {
+        assertThat("Yoda").isNull();
+      }
+    });
+    List<AssertionError> errors = softly.errors();
+    assertEquals(0, errors.get(0).getStackTrace().length);
+  }
+
+  @Test
+  public void should_capture_stack_traces_if_requested() {
+    softly.capturingStackTraces().check(new Runnable() {
+      @Override
+      public void run() {
+        assertThat("Yoda").isNull();
+      }
+    });
+    assertTrue(softly.errors().get(0).getStackTrace().length > 0);
+  }
+
+  @Test
+  public void should_restore_stack_trace_mode_of_current_thread() {
+    softly.check(new Runnable() {
+      @Override
+      public void run() {
+        assertThat("Yoda").isNull();
+      }
+    });
+    assertTrue(Fail.failure("message").getStackTrace().length > 0);
+    assertNull(Fail.useStackTraceModeInCurrentThread(null));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void should_not_catch_other_exceptions() {
+    softly.check(new Runnable() {
+      @Override
+      public void run() {
+        throw new IllegalStateException();
+      }
+    });
+  }
+}
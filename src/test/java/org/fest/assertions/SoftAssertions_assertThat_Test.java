@@ -0,0 +1,158 @@
+/*
+ * Created on Oct 16, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.assertions;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.reflect.Modifier.isStatic;
+import static org.fest.assertions.MapAssert.entry;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link SoftAssertions#assertThat(Object)} and its overloads.
+ */
+public class SoftAssertions_assertThat_Test {
+  private SoftAssertions softly;
+
+  @Before
+  public void setUp() {
+    softly = new SoftAssertions();
+  }
+
+  @Test
+  public void should_not_collect_failures_if_assertions_pass() {
+    softly.assertThat("Yoda").isNotNull().isEqualTo("Yoda").isIn("Luke", "Yoda");
+    softly.assertThat(19).isEqualTo(19).isNotEqualTo(20);
+    softly.assertThat(true).isEqualTo(true);
+    softly.assertThat(newArrayList("Luke")).isNotNull();
+    softly.assertAll();
+    assertTrue(softly.errors().isEmpty());
+  }
+
+  @Test
+  public void should_collect_failures_and_run_following_assertions() {
+    softly.assertThat(19).as("age").isNotEqualTo(19).isIn(20, 21).isNotNull();
+    softly.assertThat("Luke").as("name").isNull();
+    List<AssertionError> errors = softly.errors();
+    assertEquals(3, errors.size());
+    assertEquals("[age] actual value:<19> should not be equal to:<19>", errors.get(0).getMessage());
+    assertEquals("[age] actual value:<19> should be in:<[20, 21]>", errors.get(1).getMessage());
+    assertEquals("[name] <'Luke'> should be null", errors.get(2).getMessage());
+  }
+
+  @Test
+  public void should_collect_failures_of_type_specific_assertions() {
+    Map<String, Integer> ages = new HashMap<String, Integer>();
+    ages.put("Luke", 19);
+    softly.assertThat(5).isGreaterThan(3).isLessThan(5).isPositive();
+    softly.assertThat(6L).isZero();
+    softly.assertThat(1.5).isNaN();
+    softly.assertThat(false).isTrue();
+    softly.assertThat("Yoda").startsWith("Y").endsWith("x");
+    softly.assertThat(newArrayList("Luke", "Leia")).hasSize(2).containsExactly("Leia", "Luke").contains("Luke");
+    softly.assertThat((Collection<String>) newArrayList("Luke")).containsExactlyInAnyOrder("Han");
+    softly.assertThat(ages).isNotEmpty().includes(entry("Luke", 20));
+    softly.assertThat((Object) "Yoda").isInstanceOf(Integer.class);
+    assertEquals(9, softly.errors().size());
+    assertEquals("actual value:<5> should be less than:<5>", softly.errors().get(0).getMessage());
+  }
+
+  @Test
+  public void should_collect_failure_of_each_assertion_on_null_actual() {
+    softly.assertThat((List<String>) null).hasSize(2).contains("Luke").isNull();
+    assertEquals(2, softly.errors().size());
+  }
+
+  @Test
+  public void should_have_soft_version_of_each_type_specific_assertion() {
+    assertHasSoftVersionOfEachAssertion(ObjectAssert.class, SoftObjectAssert.class);
+    assertHasSoftVersionOfEachAssertion(StringAssert.class, SoftStringAssert.class);
+    assertHasSoftVersionOfEachAssertion(BooleanAssert.class, SoftBooleanAssert.class);
+    assertHasSoftVersionOfEachAssertion(IntAssert.class, SoftIntAssert.class);
+    assertHasSoftVersionOfEachAssertion(LongAssert.class, SoftLongAssert.class);
+    assertHasSoftVersionOfEachAssertion(DoubleAssert.class, SoftDoubleAssert.class);
+    assertHasSoftVersionOfEachAssertion(CollectionAssert.class, SoftCollectionAssert.class);
+    assertHasSoftVersionOfEachAssertion(ListAssert.class, SoftListAssert.class);
+    assertHasSoftVersionOfEachAssertion(MapAssert.class, SoftMapAssert.class);
+  }
+
+  /*
+   * Assertions are the public methods returning the assertion object or nothing. Deprecated methods and methods
+   * returning a new assertion object, like onProperty(String), are left out.
+   */
+  private static void assertHasSoftVersionOfEachAssertion(Class<?> assertType, Class<?> softAssertType) {
+    for (Method method : assertType.getMethods()) {
+      if (!isAssertion(method, assertType)) {
+        continue;
+      }
+      try {
+        softAssertType.getMethod(method.getName(), method.getParameterTypes());
+      } catch (NoSuchMethodException e) {
+        fail(String.format("%s has no soft version in %s", method, softAssertType.getSimpleName()));
+      }
+    }
+  }
+
+  private static boolean isAssertion(Method method, Class<?> assertType) {
+    if (isStatic(method.getModifiers()) || method.isBridge() || method.isAnnotationPresent(Deprecated.class)) {
+      return false;
+    }
+    if (method.getDeclaringClass() == Object.class || method.getDeclaringClass() == Assert.class) {
+      return false;
+    }
+    if (method.getName().equals("onProperty")) {
+      return false;
+    }
+    Class<?> returnType = method.getReturnType();
+    return returnType == void.class || returnType == assertType || returnType == Object.class;
+  }
+
+  @Test
+  public void should_collect_failure_with_custom_message() {
+    softly.assertThat(6L).overridingErrorMessage("My custom message").isEqualTo(8L);
+    assertEquals("My custom message", softly.errors().get(0).getMessage());
+  }
+
+  @Test
+  public void should_not_capture_stack_traces_by_default() {
+    softly.assertThat("Yoda").isNull();
+    assertEquals(0, softly.errors().get(0).getStackTrace().length);
+  }
+
+  @Test
+  public void should_collect_failures_from_several_threads() throws InterruptedException {
+    final ConcurrentSoftAssertions concurrently = new ConcurrentSoftAssertions();
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        concurrently.assertThat("Luke").isNull();
+      }
+    });
+    thread.start();
+    thread.join();
+    concurrently.assertThat("Leia").isNull();
+    assertEquals(2, concurrently.errors().size());
+  }
+}